@@ -24,7 +24,7 @@ public class GameObject {
 
     protected void updateAniTick() {
         aniTick++;
-        if (aniTick >= ANI_SPEED) {
+        if (aniTick >= Game.secondsToTicks(ANI_SPEED)) {
             aniTick = 0;
             aniIndex++;
             if (aniIndex >= GetSpriteAmount(objType)) {
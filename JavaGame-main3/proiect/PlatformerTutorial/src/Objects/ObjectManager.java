@@ -15,6 +15,9 @@ import levels.Level;
 
 import main.Game;
 import utilz.LoadSave;
+import utilz.RenderQueue;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.ObjectConstants.*;
 import static utilz.Constants.Projectiles.*;
 import static utilz.HelpMethods.CanCannonSeePlayer;
@@ -24,9 +27,9 @@ import static utilz.HelpMethods.IsProjectileHittingLevel;
 public class ObjectManager {
 
     private Playing playing;
-    private BufferedImage[][] potionImgs, containerImgs;
-    private BufferedImage spikeImgs,cannonBallImg;
-    private BufferedImage[] cannonImgs;
+    private int[][] potionImgs, containerImgs;
+    private int spikeImgs,cannonBallImg;
+    private int[] cannonImgs, cannonImgsMirrored;
     private ArrayList<Potion> potions;
     private ArrayList<GameContainer> containers;
     private ArrayList<Spike> spikes;
@@ -89,29 +92,34 @@ public class ObjectManager {
 
     private void loadImgs() {
         BufferedImage potionSprite = LoadSave.GetSpriteAtlas(LoadSave.POTION_ATLAS);
-        potionImgs = new BufferedImage[2][7];
+        BufferedImage[][] potionFrames = new BufferedImage[2][7];
 
-        for(int j= 0; j< potionImgs.length; j++)
-            for(int i=0; i< potionImgs[j].length; i++)
-                potionImgs[j][i] = potionSprite.getSubimage(12*i, 16*j, 12,16);
+        for(int j= 0; j< potionFrames.length; j++)
+            for(int i=0; i< potionFrames[j].length; i++)
+                potionFrames[j][i] = potionSprite.getSubimage(12*i, 16*j, 12,16);
+        potionImgs = TextureAtlas.Add(SpriteCache.GetScaled(potionFrames, POTION_WIDTH, POTION_HEIGHT));
 
         BufferedImage containerSprite = LoadSave.GetSpriteAtlas(LoadSave.CONTAINER_ATLAS);
-        containerImgs = new BufferedImage[2][8];
+        BufferedImage[][] containerFrames = new BufferedImage[2][8];
 
-        for (int j = 0; j < containerImgs.length; j++)
-            for (int i = 0; i < containerImgs[j].length; i++)
-                containerImgs[j][i] = containerSprite.getSubimage(40 * i, 30 * j, 40, 30);
+        for (int j = 0; j < containerFrames.length; j++)
+            for (int i = 0; i < containerFrames[j].length; i++)
+                containerFrames[j][i] = containerSprite.getSubimage(40 * i, 30 * j, 40, 30);
+        containerImgs = TextureAtlas.Add(SpriteCache.GetScaled(containerFrames, CONTAINER_WIDTH, CONTAINER_HEIGHT));
 
-        spikeImgs = LoadSave.GetSpriteAtlas(LoadSave.TRAP_ATLAS);
+        spikeImgs = TextureAtlas.Add(SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.TRAP_ATLAS), SPIKE_WIDTH, SPIKE_HEIGHT));
 
-        cannonImgs = new BufferedImage[7];
+        BufferedImage[] cannonFrames = new BufferedImage[7];
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.CANNON_ATLAS);
 
-        for(int i=0; i<cannonImgs.length;i++){
-            cannonImgs[i] = temp.getSubimage(i*40,0,40,26);
+        for(int i=0; i<cannonFrames.length;i++){
+            cannonFrames[i] = temp.getSubimage(i*40,0,40,26);
         }
+        BufferedImage[] scaledCannons = SpriteCache.GetScaled(cannonFrames, CANNON_WIDTH, CANNON_HEIGHT);
+        cannonImgs = TextureAtlas.Add(scaledCannons);
+        cannonImgsMirrored = TextureAtlas.Add(SpriteCache.GetMirrored(scaledCannons));
 
-        cannonBallImg = LoadSave.GetSpriteAtlas(LoadSave.CANNON_BALL);
+        cannonBallImg = TextureAtlas.Add(SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.CANNON_BALL), CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT));
     }
 
     public void update(int[][] lvlData, Player player){
@@ -217,65 +225,61 @@ public class ObjectManager {
         projectiles.add(new Projectile((int)c.getHitbox().x, (int)c.getHitbox().y, dir));
     }
 
-    public void draw(Graphics g, int xLvlOffset){
-        drawPotions(g,xLvlOffset);
-        drawContainers(g,xLvlOffset);
-        drawTraps(g,xLvlOffset);
-        drawCannons(g,xLvlOffset);
-        drawProjectiles(g,xLvlOffset);
+    public void savePrevPositions(){
+        for(Projectile p : projectiles)
+            p.savePrevPos();
     }
 
-    private void drawProjectiles(Graphics g, int xLvlOffset) {
+    public void draw(RenderQueue queue, int xLvlOffset, float interpolation){
+        drawPotions(queue,xLvlOffset);
+        drawContainers(queue,xLvlOffset);
+        drawTraps(queue,xLvlOffset);
+        drawCannons(queue,xLvlOffset);
+        drawProjectiles(queue,xLvlOffset,interpolation);
+    }
+
+    private void drawProjectiles(RenderQueue queue, int xLvlOffset, float interpolation) {
         for(Projectile p :projectiles){
             if(p.isActive())
-                g.drawImage(cannonBallImg,(int)(p.getHitbox().x- xLvlOffset), (int)(p.getHitbox().y), CANNON_BALL_WIDTH,CANNON_BALL_HEIGHT,null);
+                queue.submit(cannonBallImg,(int)(p.getDrawX(interpolation)- xLvlOffset), (int)(p.getHitbox().y), RenderQueue.LAYER_PROJECTILES);
         }
     }
 
-    private void drawCannons(Graphics g, int xLvlOffset) {
+    private void drawCannons(RenderQueue queue, int xLvlOffset) {
         for(Cannon c :cannons) {
-            int x = (int)(c.getHitbox().x - xLvlOffset);
-            int width= CANNON_WIDTH;
-            if(c.getObjType() == CANNON_RIGHT){
-                x+=width;
-                width *=-1;
-            }
-            g.drawImage(cannonImgs[c.getAniIndex()],x,(int)(c.getHitbox().y),width,CANNON_HEIGHT,null);
+            int[] frames = c.getObjType() == CANNON_RIGHT ? cannonImgsMirrored : cannonImgs;
+            queue.submit(frames[c.getAniIndex()],(int)(c.getHitbox().x - xLvlOffset),(int)(c.getHitbox().y), RenderQueue.LAYER_OBJECTS);
         }
     }
 
-    private void drawTraps(Graphics g, int xLvlOffset) {
+    private void drawTraps(RenderQueue queue, int xLvlOffset) {
         for(Spike s : spikes)
-            g.drawImage(spikeImgs,(int)(s.getHitbox().x - xLvlOffset), (int)(s.getHitbox().y-s.getyDrawOffset()), SPIKE_WIDTH,SPIKE_HEIGHT,null);
+            queue.submit(spikeImgs,(int)(s.getHitbox().x - xLvlOffset), (int)(s.getHitbox().y-s.getyDrawOffset()), RenderQueue.LAYER_OBJECTS);
     }
 
-    private void drawContainers(Graphics g, int xLvlOffset) {
+    private void drawContainers(RenderQueue queue, int xLvlOffset) {
         for (GameContainer gc : containers)
             if (gc.isActive()) {
                 int type = 0;
                 if (gc.getObjType() == BARREL)
                     type = 1;
-                g.drawImage(containerImgs[type][gc.getAniIndex()],
+                queue.submit(containerImgs[type][gc.getAniIndex()],
                         (int) (gc.getHitbox().x - gc.getxDrawOffset() - xLvlOffset),
                         (int) (gc.getHitbox().y - gc.getyDrawOffset()),
-                        CONTAINER_WIDTH,
-                        CONTAINER_HEIGHT,
-                        null);
+                        RenderQueue.LAYER_OBJECTS);
             }
     }
 
-    private void drawPotions(Graphics g, int xLvlOffset) {
+    private void drawPotions(RenderQueue queue, int xLvlOffset) {
         for (Potion p : potions)
             if (p.isActive()) {
                 int type = 0;
                 if (p.getObjType() == RED_POTION)
                     type = 1;
-                g.drawImage(potionImgs[type][p.getAniIndex()],
+                queue.submit(potionImgs[type][p.getAniIndex()],
                         (int) (p.getHitbox().x - p.getxDrawOffset() - xLvlOffset),
                         (int) (p.getHitbox().y - p.getyDrawOffset()),
-                        POTION_WIDTH,
-                        POTION_HEIGHT,
-                        null);
+                        RenderQueue.LAYER_OBJECTS);
             }
     }
 
@@ -10,6 +10,7 @@ public class Projectile {
     private Rectangle2D.Float hitbox;
     private int dir;
     private boolean active = true;
+    private float prevX;
 
     public Projectile(int x,int y, int dir){
         int xOffset = (int)(-3 * Game.SCALE);
@@ -20,20 +21,30 @@ public class Projectile {
         }
         hitbox = new Rectangle2D.Float(x+ xOffset,y+yOffset,CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT);
         this.dir = dir;
+        prevX = hitbox.x;
     }
 
     public void updatePos(){
-        hitbox.x += dir * SPEED;
+        hitbox.x += dir * SPEED * Game.getTickSeconds();
     }
 
 
     public void updatePosSpells(){
-        hitbox.x += dir * SPEED*1.5f;
+        hitbox.x += dir * SPEED*1.5f * Game.getTickSeconds();
     }
 
     public void setPos(int x,int y){
         hitbox.x = x;
         hitbox.y = y;
+        prevX = x;
+    }
+
+    public void savePrevPos(){
+        prevX = hitbox.x;
+    }
+
+    public float getDrawX(float interpolation){
+        return prevX + (hitbox.x - prevX) * interpolation;
     }
 
     public Rectangle2D.Float getHitbox(){
@@ -1,8 +1,11 @@
 package audio;
 
+import utilz.LoadSave;
+
 import javax.sound.sampled.*;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Random;
 
 public class AudioPlayer {
@@ -24,8 +27,17 @@ public class AudioPlayer {
     private float volume =0.5f;
     private boolean songMute, effectMute;
     private Random rand = new Random();
+    private boolean enabled;
 
     public AudioPlayer(){
+        this(true);
+    }
+
+    // A disabled player loads no clips and ignores every call, for running without a sound device
+    public AudioPlayer(boolean enabled){
+        this.enabled = enabled;
+        if (!enabled)
+            return;
 
         loadSongs();
         loadEffects();
@@ -34,22 +46,19 @@ public class AudioPlayer {
 
     private void loadSongs(){
         String[] names = { "menu", "level1", "level2" };
-        songs = new Clip[names.length];
-        for (int i = 0; i < songs.length; i++)
-            songs[i] = getClip(names[i]);
+        songs = Arrays.stream(names).parallel().map(this::getClip).toArray(Clip[]::new);
     }
 
     private void loadEffects(){
         String[] effectNames = { "die", "jump", "gameover", "lvlcompleted", "attack1", "attack2", "attack_range" };
-        effects = new Clip[effectNames.length];
-        for (int i = 0; i < effects.length; i++)
-            effects[i] = getClip(effectNames[i]);
+        effects = Arrays.stream(effectNames).parallel().map(this::getClip).toArray(Clip[]::new);
 
         updateEffectsVolume();
 
     }
 
     private Clip getClip(String name) {
+        long start = System.nanoTime();
         URL url = getClass().getResource("/audio/" + name + ".wav");
         if (url == null) {
             System.err.println("Audio file not found: " + name);
@@ -71,6 +80,7 @@ public class AudioPlayer {
             AudioInputStream converted = AudioSystem.getAudioInputStream(targetFormat, original);
             Clip c = AudioSystem.getClip();
             c.open(converted);
+            LoadSave.RecordLoadTime("audio/" + name + ".wav", System.nanoTime() - start);
             return c;
         } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
             e.printStackTrace();
@@ -80,6 +90,8 @@ public class AudioPlayer {
 
     public void setVolume(float volume){
         this.volume = volume;
+        if (!enabled)
+            return;
         updateSongVolume();
         updateEffectsVolume();
     }
@@ -109,12 +121,16 @@ public class AudioPlayer {
 
 
     public void playEffect(int effect){
+        if (!enabled)
+            return;
         effects[effect].setMicrosecondPosition(0);
         effects[effect].start();
 
     }
 
     public void playSong(int song){
+        if (!enabled)
+            return;
         stopSong();
 
         currentSongId = song;
@@ -125,12 +141,16 @@ public class AudioPlayer {
     }
 
     public void stopSong() {
+        if (!enabled)
+            return;
         if (songs[currentSongId].isActive())
             songs[currentSongId].stop();
     }
 
     public void toggleSongMute(){
         this.songMute = !songMute;
+        if (!enabled)
+            return;
         for(Clip c : songs){
             BooleanControl booleanControl = (BooleanControl) c.getControl(BooleanControl.Type.MUTE);
             booleanControl.setValue(songMute);
@@ -139,6 +159,8 @@ public class AudioPlayer {
 
     public void toggleEffectMute(){
         this.effectMute = !effectMute;
+        if (!enabled)
+            return;
         for (Clip c : effects) {
             BooleanControl booleanControl = (BooleanControl) c.getControl(BooleanControl.Type.MUTE);
             booleanControl.setValue(effectMute);
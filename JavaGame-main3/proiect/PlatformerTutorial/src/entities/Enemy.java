@@ -15,7 +15,7 @@ public abstract class Enemy extends Entity {
 
     protected boolean firstUpdate = true;
 
-    protected float walkSpeed = 0.3f * Game.SCALE;
+    protected float walkSpeed = 60f * Game.SCALE;
     protected int walkDir = LEFT;
     protected int tileY;
     protected float attackDistance = 1 * Game.TILES_SIZE;
@@ -27,22 +27,26 @@ public abstract class Enemy extends Entity {
         this.enemyType = enemyType;
         maxHealth = GetMaxHealth(enemyType);
         currentHealth = maxHealth;
-        walkSpeed = Game.SCALE * 0.35f;
+        walkSpeed = Game.SCALE * 70f;
     }
 
     protected void firstUpdateCheck(int[][] lvlData){
         if(!IsEntityOnFloor(hitbox,lvlData))
             inAir=true;
+        else
+            tileY = (int)( hitbox.y / Game.TILES_SIZE); // spawned standing, so it never lands to set this
         firstUpdate=false;
     }
 
     protected void updateInAir(int[][] lvlData){
-        if(CanMoveHere(hitbox.x, hitbox.y + airSpeed, hitbox.width, hitbox.height, lvlData)){
-            hitbox.y += airSpeed;
-            airSpeed+= GRAVITY;
+        float dt = Game.getTickSeconds();
+        float ySpeed = GetFallDistance(airSpeed, dt);
+        if(CanMoveHere(hitbox.x, hitbox.y + ySpeed, hitbox.width, hitbox.height, lvlData)){
+            hitbox.y += ySpeed;
+            airSpeed+= GRAVITY * dt;
         }else{
             inAir=false;
-            hitbox.y = GetEntityYPosUnderRoofOrAboveFloor(hitbox,airSpeed);
+            hitbox.y = GetEntityYPosUnderRoofOrAboveFloor(hitbox,ySpeed);
             tileY = (int)( hitbox.y / Game.TILES_SIZE);
         }
     }
@@ -51,9 +55,9 @@ public abstract class Enemy extends Entity {
         float xSpeed = 0;
 
         if(walkDir == LEFT)
-            xSpeed = -walkSpeed;
+            xSpeed = -walkSpeed * Game.getTickSeconds();
         else
-            xSpeed = walkSpeed;
+            xSpeed = walkSpeed * Game.getTickSeconds();
 
         if(CanMoveHere(hitbox.x + xSpeed, hitbox.y, hitbox.width, hitbox.height, lvlData))
             if(IsFloor(hitbox, xSpeed, lvlData)){
@@ -72,7 +76,7 @@ public abstract class Enemy extends Entity {
             walkDir = LEFT;
     }
 
-    protected boolean canSeePlayer(int[][] lvlData, Player player){
+    public boolean canSeePlayer(int[][] lvlData, Player player){
         int playerTileY =(int) player.getHitbox().y / Game.TILES_SIZE;
         if(playerTileY == tileY)
             if(isPlayerInRange(player)){
@@ -115,7 +119,7 @@ public abstract class Enemy extends Entity {
 
     protected void updateAniTick() {
         aniTick++;
-        if (aniTick >= ANI_SPEED) {
+        if (aniTick >= Game.secondsToTicks(ANI_SPEED)) {
             aniTick = 0;
             aniIndex++;
             if (aniIndex >= GetSpriteAmount(enemyType, state)) {
@@ -144,6 +148,7 @@ public abstract class Enemy extends Entity {
         newState(IDLE);
         active = true;
         airSpeed = 0;
+        savePrevPos();
     }
 
     public boolean isActive(){
@@ -3,6 +3,9 @@ package entities;
 import gamestates.Playing;
 import levels.Level;
 import utilz.LoadSave;
+import utilz.RenderQueue;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.EnemyConstants.*;
 
 import java.awt.*;
@@ -13,7 +16,7 @@ import java.util.ArrayList;
 public class EnemyManager {
 
     private  Playing playing;
-    private BufferedImage[][] skellyArr;
+    private int[][] skellyArr, skellyArrMirrored;
     private ArrayList<Skelly> skellies = new ArrayList<>();
 
     public EnemyManager(Playing playing) {
@@ -39,27 +42,24 @@ public class EnemyManager {
             }
     }
 
-    public void draw(Graphics g, int xLvlOffset){
-        drawSkellys(g,xLvlOffset);
-
-        for(Skelly s : skellies) {
-            s.drawHitbox(g, xLvlOffset);
-        }
+    public void savePrevPositions(){
+        for(Skelly s : skellies)
+            s.savePrevPos();
+    }
 
+    public void draw(RenderQueue queue, int xLvlOffset, float interpolation){
+        drawSkellys(queue,xLvlOffset,interpolation);
     }
 
-    private void drawSkellys(Graphics g, int xLvlOffset) {
+    private void drawSkellys(RenderQueue queue, int xLvlOffset, float interpolation) {
         for(Skelly s : skellies)
             if(s.isActive())
             {
-                g.drawImage(skellyArr[s.getEnemyState()][s.getAniIndex()],
-                        (int)(s.getHitbox().x - xLvlOffset- SKELLY_DRAWOFFSET_X) + s.flipX(),
-                        (int)(s.getHitbox().y- SKELLY_DRAWOFFSET_Y),
-                        SKELLY_WIDTH * s.flipW(),
-                        SKELLY_HEIGHT,
-                        null);
-                s.drawHitbox(g, xLvlOffset);
-                s.drawAttackBox(g, xLvlOffset);
+                int[][] frames = s.flipW() == -1 ? skellyArrMirrored : skellyArr;
+                queue.submit(frames[s.getEnemyState()][s.getAniIndex()],
+                        (int)(s.getDrawX(interpolation) - xLvlOffset- SKELLY_DRAWOFFSET_X),
+                        (int)(s.getDrawY(interpolation)- SKELLY_DRAWOFFSET_Y),
+                        RenderQueue.LAYER_ENTITIES);
             }
     }
 
@@ -76,11 +76,14 @@ public class EnemyManager {
     }
 
     private void loadEnemyImgs() {
-        skellyArr = new BufferedImage[5][11];
+        BufferedImage[][] frames = new BufferedImage[5][11];
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.SKELLY_SPRITE);
-        for (int i = 0; i < skellyArr.length; i++)
-            for (int j = 0; j < skellyArr[i].length; j++)
-                skellyArr[i][j] = temp.getSubimage(j * SKELLY_WIDTH_DEFAULT, i * SKELLY_HEIGHT_DEFAULT, SKELLY_WIDTH_DEFAULT, SKELLY_HEIGHT_DEFAULT);
+        for (int i = 0; i < frames.length; i++)
+            for (int j = 0; j < frames[i].length; j++)
+                frames[i][j] = temp.getSubimage(j * SKELLY_WIDTH_DEFAULT, i * SKELLY_HEIGHT_DEFAULT, SKELLY_WIDTH_DEFAULT, SKELLY_HEIGHT_DEFAULT);
+        BufferedImage[][] scaled = SpriteCache.GetScaled(frames, SKELLY_WIDTH, SKELLY_HEIGHT);
+        skellyArr = TextureAtlas.Add(scaled);
+        skellyArrMirrored = TextureAtlas.Add(SpriteCache.GetMirrored(scaled));
     }
 
     public void resetAllEnemies(){
@@ -19,6 +19,7 @@ public abstract class Entity {
 	protected int currentHealth;
 	protected Rectangle2D.Float attackBox;
 	protected float walkSpeed;
+	protected float prevHitboxX, prevHitboxY;
 
 
 	public Entity(float x, float y, int width, int height) {
@@ -29,13 +30,12 @@ public abstract class Entity {
 
 	}
 
-	protected void drawAttackBox(Graphics g, int lvlOffsetX) {
+	public void drawAttackBox(Graphics g, int lvlOffsetX) {
 		g.setColor(Color.RED);
 		g.drawRect((int)attackBox.x - lvlOffsetX,(int)attackBox.y,(int)attackBox.width,(int)attackBox.height);
 	}
 
-	protected void drawHitbox(Graphics g, int xLvlOffset) {
-		// For debugging the hitbox
+	public void drawHitbox(Graphics g, int xLvlOffset) {
 		g.setColor(Color.PINK);
 		g.drawRect((int) hitbox.x - xLvlOffset, (int) hitbox.y, (int) hitbox.width, (int) hitbox.height);
 
@@ -43,6 +43,21 @@ public abstract class Entity {
 
 	protected void initHitbox( int width, int height) {
 		hitbox = new Rectangle2D.Float(x, y, (int)(width * Game.SCALE),(int)( height* Game.SCALE));
+		savePrevPos();
+	}
+
+	// Called at the start of every tick so rendering can blend from the previous position
+	public void savePrevPos() {
+		prevHitboxX = hitbox.x;
+		prevHitboxY = hitbox.y;
+	}
+
+	public float getDrawX(float interpolation) {
+		return prevHitboxX + (hitbox.x - prevHitboxX) * interpolation;
+	}
+
+	public float getDrawY(float interpolation) {
+		return prevHitboxY + (hitbox.y - prevHitboxY) * interpolation;
 	}
 
 //	protected void updateHitbox() {
@@ -66,4 +81,8 @@ public abstract class Entity {
 		return currentHealth;
 	}
 
+	public int getMaxHealth(){
+		return maxHealth;
+	}
+
 }
\ No newline at end of file
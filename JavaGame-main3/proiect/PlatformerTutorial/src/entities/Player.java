@@ -2,6 +2,7 @@ package entities;
 
 import static utilz.Constants.*;
 import static utilz.Constants.PlayerConstants.*;
+import static utilz.Constants.Projectiles.*;
 import static utilz.HelpMethods.*;
 
 import java.awt.*;
@@ -14,9 +15,12 @@ import audio.AudioPlayer;
 import gamestates.Playing;
 import main.Game;
 import utilz.LoadSave;
+import utilz.RenderQueue;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 
 public class Player extends Entity {
-	private BufferedImage[][] animations;
+	private int[][] animations, animationsMirrored;
 
 	private boolean moving = false, attacking = false, shooting = false;
 	private boolean left, right, jump;
@@ -25,41 +29,22 @@ public class Player extends Entity {
 	private float yDrawOffSet = 11 * Game.SCALE;
 
 	// Jumping / Gravity
-	private float jumpSpeed = -2.50f * Game.SCALE;
-	private float fallSpeedAfterCollision = 0.5f * Game.SCALE;
+	private float jumpSpeed = -500f * Game.SCALE;
+	private float fallSpeedAfterCollision = 100f * Game.SCALE;
 
 
-	//status bar
-	private BufferedImage statusBarImg;
+	private int fireballImg, fireballImgMirrored;
 
-	private int statusBarWidth = (int) (192 * Game.SCALE);
-	private int statusBarHeight = (int) (58 * Game.SCALE);
-	private int statusBarX = (int) (10 * Game.SCALE);
-	private int statusBarY = (int) (380 * Game.SCALE);
-
-	private int healthBarWidth = (int) (150 * Game.SCALE);
-	private int healthBarHeight = (int) (4 * Game.SCALE);
-	private int healthBarXStart = (int) (34 * Game.SCALE);
-	private int healthBarYStart = (int) (14 * Game.SCALE);
-
-	private int powerBarWidth = (int) (104 * Game.SCALE);
-	private int powerBarHeight = (int) (3 * Game.SCALE);
-	private int powerBarXStart = (int) (44 * Game.SCALE);
-	private int powerBarYStart = (int) (34 * Game.SCALE);
-	private int powerWidth = powerBarWidth;
 	private int powerMaxValue = 100;
 	private int powerValue = powerMaxValue;
 
 	private boolean facingRight = true;
 
-	private int healthWidth = healthBarWidth;
 
-
-	private int flipX = 0;
 	private int flipW = 1;
 
 	private boolean jumpBoostActive = false;
-	private long jumpBoostEndTime = 0;
+	private int jumpBoostTicks; // ticks left, so the boost lasts the same game time at any UPS
 	private boolean attackChecked;
 
 	private Playing playing;
@@ -68,7 +53,7 @@ public class Player extends Entity {
 
 	private ArrayList<Projectile> spells = new ArrayList<>();
 
-	private int powerGrowSpeed = 10;
+	private float powerGrowSpeed = 0.05f; // seconds between power regen steps
 	private int powerGrowTick;
 
 	public Player(float x, float y, int width, int height, Playing playing) {
@@ -79,7 +64,7 @@ public class Player extends Entity {
 		this.aniTick = 0;
 		this.maxHealth = 10;
 		this.currentHealth = maxHealth;
-		this.walkSpeed = Game.SCALE * 1.0f;
+		this.walkSpeed = Game.SCALE * 200f;
 		loadAnimations();
 		initHitbox(16,26);
 		initAttackBox();
@@ -91,6 +76,7 @@ public class Player extends Entity {
 		this.y = spawn.y;
 		hitbox.x = x;
 		hitbox.y = y;
+		savePrevPos();
 	}
 
 	private void initAttackBox() {
@@ -98,7 +84,6 @@ public class Player extends Entity {
 	}
 
 	public void update() {
-		updateHealthBar();
 		updatePowerBar();
 		if(currentHealth <= 0){
 			if(state != DEAD){
@@ -107,7 +92,7 @@ public class Player extends Entity {
 				aniIndex = 0;
 				playing.setPlayerDying(true);
 				playing.getGame().getAudioPlayer().playEffect(AudioPlayer.DIE);
-			} else if(aniIndex == GetSpriteAmount(DEAD) - 1 && aniTick >= ANI_SPEED - 1){
+			} else if(aniIndex == GetSpriteAmount(DEAD) - 1 && aniTick >= Game.secondsToTicks(ANI_SPEED) - 1){
 				playing.setGameOver(true);
 				playing.getGame().getAudioPlayer().stopSong();
 				playing.getGame().getAudioPlayer().playEffect(AudioPlayer.GAMEOVER);
@@ -118,7 +103,7 @@ public class Player extends Entity {
 
 			return;
 		}
-		if (jumpBoostActive && System.currentTimeMillis() > jumpBoostEndTime) {
+		if (jumpBoostActive && --jumpBoostTicks <= 0) {
 			jumpBoostActive = false;
 		}
 
@@ -154,7 +139,7 @@ public class Player extends Entity {
 			state = SHOOT_PROJ;
 
 			int dir = isFacingRight() ? 1 : -1;
-			int projectileX = (int) (hitbox.x + (dir == 1 ? hitbox.width / 2 - 60 : -hitbox.width / 2 + 60));
+			int projectileX = (int) (hitbox.x + (dir == 1 ? hitbox.width / 2 - FIREBALL_SPAWN_OFFSET_X : -hitbox.width / 2 + FIREBALL_SPAWN_OFFSET_X));
 			int projectileY = (int) (hitbox.y + height / 3);
 			spells.add(new Projectile(projectileX, projectileY, dir));
 		}
@@ -187,15 +172,16 @@ public class Player extends Entity {
 			}
 	}
 
-	public void drawSpell(Graphics g, int xLvlOffset) {
-		ArrayList<Projectile> spellsToDraw = new ArrayList<>(spells);
+	public void drawSpell(RenderQueue queue, int xLvlOffset, float interpolation) {
 		int dir = isFacingRight() ? 1 : -1;
-		for (Projectile p : spellsToDraw) {
+		for (Projectile p : spells) {
 			if (p.isActive()) {
-				g.drawImage(LoadSave.GetSpriteAtlas(LoadSave.FIREBALL),
-						(int) (p.getHitbox().x - xLvlOffset),
-						(int) (p.getHitbox().y -30),
-						50*dir, 50, null);
+				int x = (int) (p.getDrawX(interpolation) - xLvlOffset);
+				int y = (int) (p.getHitbox().y - FIREBALL_DRAW_OFFSET_Y);
+				if (dir == 1)
+					queue.submit(fireballImg, x, y, RenderQueue.LAYER_PROJECTILES);
+				else
+					queue.submit(fireballImgMirrored, x - FIREBALL_SIZE, y, RenderQueue.LAYER_PROJECTILES);
 			}
 		}
 	}
@@ -210,57 +196,24 @@ public class Player extends Entity {
 		attackBox.y = hitbox.y + (Game.SCALE * 1);
 	}
 
-	private void updateHealthBar() {
-		healthWidth = (int) (healthBarWidth * currentHealth / (float)( maxHealth));
-	}
-
 	private void updatePowerBar(){
-		powerWidth = (int)(powerBarWidth * powerValue / (float)(powerMaxValue));
-
 		powerGrowTick++;
-		if(powerGrowTick >= powerGrowSpeed) {
+		if(powerGrowTick >= Game.secondsToTicks(powerGrowSpeed)) {
 			powerGrowTick = 0;
 			changePower(2);
 		}
 	}
 
-	public void render(Graphics g, int lvlOffset) {
-		g.drawImage(animations[state][aniIndex],
-				(int) (hitbox.x - xDrawOffset) - lvlOffset + flipX ,
-				(int) (hitbox.y - yDrawOffSet),
-				width * flipW, height, null);
-		drawHitbox(g, lvlOffset);
-		drawAttackBox(g,lvlOffset);
-
-		drawUI(g);
-	}
-
-
-
-	private void drawUI(Graphics g) {
-		g.drawImage(statusBarImg, statusBarX, statusBarY, statusBarWidth, statusBarHeight, null);
-
-		if(currentHealth >maxHealth/2)
-			g.setColor(Color.RED);
-		else
-			g.setColor(Color.ORANGE);
-		g.fillRect(healthBarXStart + statusBarX, healthBarYStart + statusBarY, healthWidth, healthBarHeight);
-
-		if(powerValue<=25)
-			g.setColor(new Color(255, 255, 255,200));
-		else if(powerValue <=50)
-			g.setColor(new Color(42, 66, 110, 255));
-		else if(powerValue <=75)
-			g.setColor(new Color(65, 98, 161, 255));
-		else
-			g.setColor(new Color(54, 108, 214, 255));
-
-		g.fillRect(powerBarXStart + statusBarX, powerBarYStart + statusBarY, powerWidth, powerBarHeight);
+	public void render(RenderQueue queue, int lvlOffset, float interpolation) {
+		int x = (int) (getDrawX(interpolation) - xDrawOffset) - lvlOffset;
+		int y = (int) (getDrawY(interpolation) - yDrawOffSet);
+		int[][] frames = flipW == -1 ? animationsMirrored : animations;
+		queue.submit(frames[state][aniIndex], x, y, RenderQueue.LAYER_ENTITIES);
 	}
 
 	private void updateAnimationTick() {
 		aniTick++;
-		if (aniTick >= ANI_SPEED_CHAR) {
+		if (aniTick >= Game.secondsToTicks(ANI_SPEED_CHAR)) {
 			aniTick = 0;
 			aniIndex++;
 //			System.out.println("aniIndex: " + aniIndex + " | max: " + GetSpriteAmount(state));
@@ -341,17 +294,16 @@ public class Player extends Entity {
 			if ((!left && !right) || (right && left))
 				return;
 
+		float dt = Game.getTickSeconds();
 		float xSpeed = 0;
 
 		if (left){
-			xSpeed -= walkSpeed;
-			flipX = width;
+			xSpeed -= walkSpeed * dt;
 			flipW = -1;
 		}
 
 		if (right){
-			xSpeed += walkSpeed;
-			flipX = 0;
+			xSpeed += walkSpeed * dt;
 			flipW = 1;
 		}
 
@@ -360,12 +312,13 @@ public class Player extends Entity {
 				inAir = true;
 
 		if (inAir) {
-			if (CanMoveHere(hitbox.x, hitbox.y + airSpeed, hitbox.width, hitbox.height, lvlData)) {
-				hitbox.y += airSpeed;
-				airSpeed += GRAVITY;
+			float ySpeed = GetFallDistance(airSpeed, dt);
+			if (CanMoveHere(hitbox.x, hitbox.y + ySpeed, hitbox.width, hitbox.height, lvlData)) {
+				hitbox.y += ySpeed;
+				airSpeed += GRAVITY * dt;
 				updateXPos(xSpeed);
 			} else {
-				hitbox.y = GetEntityYPosUnderRoofOrAboveFloor(hitbox, airSpeed);
+				hitbox.y = GetEntityYPosUnderRoofOrAboveFloor(hitbox, ySpeed);
 				if (airSpeed > 0)
 					resetInAir();
 				else
@@ -429,12 +382,17 @@ public class Player extends Entity {
 
 		BufferedImage img = LoadSave.GetSpriteAtlas(LoadSave.PLAYER_ATLAS);
 
-		animations = new BufferedImage[8][8];
-		for (int j = 0; j < animations.length; j++)
-			for (int i = 0; i < animations[j].length; i++)
-				animations[j][i] = img.getSubimage(i * 32, j * 32, 32, 32);
+		BufferedImage[][] frames = new BufferedImage[8][8];
+		for (int j = 0; j < frames.length; j++)
+			for (int i = 0; i < frames[j].length; i++)
+				frames[j][i] = img.getSubimage(i * 32, j * 32, 32, 32);
+		BufferedImage[][] scaled = SpriteCache.GetScaled(frames, width, height);
+		animations = TextureAtlas.Add(scaled);
+		animationsMirrored = TextureAtlas.Add(SpriteCache.GetMirrored(scaled));
 
-		statusBarImg = LoadSave.GetSpriteAtlas(LoadSave.STATUS_BAR);
+		BufferedImage fireball = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.FIREBALL), FIREBALL_SIZE, FIREBALL_SIZE);
+		fireballImg = TextureAtlas.Add(fireball);
+		fireballImgMirrored = TextureAtlas.Add(SpriteCache.GetMirrored(fireball));
 	}
 
 	public void loadLvlData(int[][] lvlData) {
@@ -446,7 +404,12 @@ public class Player extends Entity {
 	}
 	public void activateJumpBoost(int durationSeconds) {
 		jumpBoostActive = true;
-		jumpBoostEndTime = System.currentTimeMillis() + (durationSeconds * 1000);
+		jumpBoostTicks = Game.secondsToTicks(durationSeconds);
+	}
+
+	public void clearJumpBoost() {
+		jumpBoostActive = false;
+		jumpBoostTicks = 0;
 	}
 
 
@@ -483,6 +446,10 @@ public class Player extends Entity {
 		this.jump = jump;
 	}
 
+	public boolean isInAir() {
+		return inAir;
+	}
+
 	public void resetAll() {
 		resetDirBooleans();
 		inAir = false;
@@ -496,6 +463,7 @@ public class Player extends Entity {
 		powerValue = powerMaxValue;
 		hitbox.x = x;
 		hitbox.y = y;
+		savePrevPos();
 		if(!IsEntityOnFloor(hitbox,lvlData))
 			inAir = true;
 	}
@@ -504,10 +472,23 @@ public class Player extends Entity {
 		currentHealth = 0;
 	}
 
+	public int getPowerValue() {
+		return powerValue;
+	}
+
+	public int getPowerMaxValue() {
+		return powerMaxValue;
+	}
+
 	public int getTileY(){
 		return tileY;
 	}
 
+	public void saveSpellPositions() {
+		for (Projectile p : spells)
+			p.savePrevPos();
+	}
+
 	public ArrayList<Projectile> getSpells() {
 		return spells;
 	}
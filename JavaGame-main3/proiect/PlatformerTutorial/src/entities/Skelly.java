@@ -103,10 +103,6 @@ public class Skelly extends Enemy {
         return dead;
     }
 
-    public int flipX() {
-        return walkDir == LEFT ? width : 0;
-    }
-
     public int flipW() {
         return walkDir == LEFT ? -1 : 1;
     }
@@ -8,22 +8,29 @@ import java.awt.image.BufferedImage;
 import main.Game;
 import ui.AudioOptions;
 import ui.PauseButton;
+import ui.RetainedScreen;
 import ui.UrmButton;
 import utilz.LoadSave;
+import utilz.SpriteCache;
 import static utilz.Constants.UI.URMButtons.*;
 
 public class GameOptions extends State implements Statemethods {
 
     private AudioOptions audioOptions;
-    private BufferedImage backgroundImg, optionsBackgroundImg;
+    private BufferedImage optionsBackgroundImg;
     private int bgX, bgY, bgW, bgH;
     private UrmButton menuB;
+    private RetainedScreen screen;
 
     public GameOptions(Game game) {
         super(game);
         loadImgs();
         loadButton();
         audioOptions = game.getAudioOptions();
+
+        screen = new RetainedScreen(this::paint);
+        screen.track(menuB.getBounds(), menuB::getIndex);
+        audioOptions.track(screen);
     }
 
     private void loadButton() {
@@ -34,11 +41,11 @@ public class GameOptions extends State implements Statemethods {
     }
 
     private void loadImgs() {
-        backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
         optionsBackgroundImg = LoadSave.GetSpriteAtlas(LoadSave.OPTIONS_MENU);
 
         bgW = (int) (optionsBackgroundImg.getWidth() * Game.SCALE);
         bgH = (int) (optionsBackgroundImg.getHeight() * Game.SCALE);
+        optionsBackgroundImg = SpriteCache.GetScaled(optionsBackgroundImg, bgW, bgH);
         bgX = Game.GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (33 * Game.SCALE);
     }
@@ -47,13 +54,22 @@ public class GameOptions extends State implements Statemethods {
     public void update() {
         menuB.update();
         audioOptions.update();
+        screen.refresh();
 
     }
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImg, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-        g.drawImage(optionsBackgroundImg, bgX, bgY, bgW, bgH, null);
+        screen.draw(g);
+    }
+
+    public boolean needsRepaint() {
+        return screen.needsRepaint();
+    }
+
+    private void paint(Graphics g) {
+        game.getMenu().getBackground().draw(g, 0);
+        g.drawImage(optionsBackgroundImg, bgX, bgY, null);
 
         menuB.draw(g);
         audioOptions.draw(g);
@@ -2,7 +2,7 @@ package gamestates;
 
 public enum Gamestate {
 
-	PLAYING, MENU, OPTIONS, QUIT;
+	PLAYING, MENU, OPTIONS, LOADING, QUIT;
 
 	public static Gamestate state = MENU;
 
@@ -0,0 +1,82 @@
+package gamestates;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+
+import main.Game;
+
+// Shown after PLAY is pressed while Playing is still being built in the background
+public class Loading extends State implements Statemethods {
+
+	private int barX, barY, barW, barH;
+
+	public Loading(Game game) {
+		super(game);
+		barW = (int) (300 * Game.SCALE);
+		barH = (int) (12 * Game.SCALE);
+		barX = Game.GAME_WIDTH / 2 - barW / 2;
+		barY = Game.GAME_HEIGHT / 2 - barH / 2;
+	}
+
+	@Override
+	public void update() {
+		if (game.isPlayingLoaded())
+			setGameState(Gamestate.PLAYING);
+	}
+
+	@Override
+	public void draw(Graphics g) {
+		game.getMenu().getBackground().draw(g, 0);
+
+		g.setColor(Color.WHITE);
+		Throwable failure = game.getLoadFailure();
+		if (failure != null) {
+			g.drawString("Could not load the game: " + failure, barX, barY);
+			g.drawString("Click or press any key to return to the menu", barX, barY + barH * 2);
+			return;
+		}
+
+		g.drawString("Loading...", barX, barY - (int) (6 * Game.SCALE));
+		g.drawRect(barX, barY, barW, barH);
+		g.fillRect(barX, barY, (int) (barW * game.getLoadingProgress()), barH);
+	}
+
+	// After a failed load there is nothing to wait for, so any input goes back to the menu
+	private void leaveIfFailed() {
+		if (game.getLoadFailure() != null)
+			setGameState(Gamestate.MENU);
+	}
+
+	@Override
+	public void mouseClicked(MouseEvent e) {
+
+	}
+
+	@Override
+	public void mousePressed(MouseEvent e) {
+
+	}
+
+	@Override
+	public void mouseReleased(MouseEvent e) {
+		leaveIfFailed();
+	}
+
+	@Override
+	public void mouseMoved(MouseEvent e) {
+
+	}
+
+	@Override
+	public void keyPressed(KeyEvent e) {
+
+	}
+
+	@Override
+	public void keyReleased(KeyEvent e) {
+		leaveIfFailed();
+	}
+
+}
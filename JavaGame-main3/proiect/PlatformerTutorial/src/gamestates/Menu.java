@@ -5,27 +5,38 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 
+import levels.ParallaxBackground;
 import main.Game;
 import ui.MenuButton;
+import ui.RetainedScreen;
 import utilz.LoadSave;
+import utilz.SpriteCache;
 
 public class Menu extends State implements Statemethods {
 
 	private MenuButton[] buttons = new MenuButton[3];
-	private BufferedImage backgroundImg, backgroundImgSky;
+	private BufferedImage backgroundImg;
+	private ParallaxBackground background;
+	private RetainedScreen screen;
 	private int menuX, menuY, menuWidth, menuHeight;
 
 	public Menu(Game game) {
 		super(game);
 		loadButtons();
 		loadBackground();
-		backgroundImgSky = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
+		background = new ParallaxBackground();
+		background.addLayer(LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG), 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, 0);
+
+		screen = new RetainedScreen(this::paint);
+		for (MenuButton mb : buttons)
+			screen.track(mb.getBounds(), mb::getIndex);
 	}
 
 	private void loadBackground() {
 		backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND);
 		menuWidth = (int) (backgroundImg.getWidth() * Game.SCALE);
 		menuHeight = (int) (backgroundImg.getHeight() * Game.SCALE);
+		backgroundImg = SpriteCache.GetScaled(backgroundImg, menuWidth, menuHeight);
 		menuX = Game.GAME_WIDTH / 2 - menuWidth / 2;
 		menuY = (int) (45 * Game.SCALE);
 
@@ -37,17 +48,32 @@ public class Menu extends State implements Statemethods {
 		buttons[2] = new MenuButton(Game.GAME_WIDTH / 2, (int) (290 * Game.SCALE), 2, Gamestate.QUIT);
 	}
 
+	// The sky behind the menu, shared with the options and loading screens
+	public ParallaxBackground getBackground() {
+		return background;
+	}
+
 	@Override
 	public void update() {
 		for (MenuButton mb : buttons)
 			mb.update();
+		screen.refresh();
 	}
 
 	@Override
 	public void draw(Graphics g) {
+		screen.draw(g);
+	}
 
-		g.drawImage(backgroundImgSky, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-		g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
+	// False while nothing on the menu has changed since it was last drawn
+	public boolean needsRepaint() {
+		return screen.needsRepaint();
+	}
+
+	private void paint(Graphics g) {
+
+		background.draw(g, 0);
+		g.drawImage(backgroundImg, menuX, menuY, null);
 
 		for (MenuButton mb : buttons)
 			mb.draw(g);
@@ -73,10 +99,12 @@ public class Menu extends State implements Statemethods {
 	public void mouseReleased(MouseEvent e) {
 		for (MenuButton mb : buttons) {
 			if (isIn(e, mb)) {
-				if (mb.isMousePressed())
-					mb.applyGamestate();
-				if(mb.getState() == Gamestate.PLAYING)
-					game.getAudioPlayer().setLevelSong(game.getPlaying().getLevelManager().getLvlIndex());
+				if (mb.isMousePressed()) {
+					if (mb.getState() == Gamestate.PLAYING)
+						startPlaying();
+					else
+						mb.applyGamestate();
+				}
 				break;
 			}
 		}
@@ -85,6 +113,14 @@ public class Menu extends State implements Statemethods {
 
 	}
 
+	// Only waits on the loading screen if Playing is still being built in the background
+	private void startPlaying() {
+		if (game.isPlayingLoaded())
+			setGameState(Gamestate.PLAYING);
+		else
+			setGameState(Gamestate.LOADING);
+	}
+
 	private void resetButtons() {
 		for (MenuButton mb : buttons)
 			mb.resetBools();
@@ -107,7 +143,7 @@ public class Menu extends State implements Statemethods {
 	@Override
 	public void keyPressed(KeyEvent e) {
 		if (e.getKeyCode() == KeyEvent.VK_ENTER)
-			Gamestate.state = Gamestate.PLAYING;
+			startPlaying();
 
 	}
 
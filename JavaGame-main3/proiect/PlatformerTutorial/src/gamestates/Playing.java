@@ -3,9 +3,8 @@ package gamestates;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.util.Random;
 
 import Objects.ObjectManager;
@@ -13,12 +12,18 @@ import entities.Enemy;
 import entities.EnemyManager;
 import entities.Player;
 import levels.LevelManager;
+import levels.ParallaxBackground;
 import main.Game;
+import ui.DebugOverlay;
 import ui.GameOverOverlay;
+import ui.HUD;
 import ui.LevelCompletedOverlay;
 import ui.PauseOverlay;
 import utilz.LoadSave;
+import utilz.RenderQueue;
+import utilz.Timings;
 import static utilz.Constants.Environment.*;
+import static utilz.Timings.Phase.*;
 
 public class Playing extends State implements Statemethods {
 	private Player player;
@@ -29,15 +34,17 @@ public class Playing extends State implements Statemethods {
 	private PauseOverlay pauseOverlay;
 	private GameOverOverlay gameOverOverlay;
 	private LevelCompletedOverlay levelCompletedOverlay;
+	private DebugOverlay debugOverlay;
+	private HUD hud;
 	private boolean paused = false;
 
-	private int xLvlOffset;
+	private int xLvlOffset, prevXLvlOffset;
 	private int leftBorder = (int) (0.2 * Game.GAME_WIDTH);
 	private int rightBorder = (int) (0.8 * Game.GAME_WIDTH);
 	private int maxLvlOffsetX;
 
-	private BufferedImage backgroundImg, cloudImg, smallCloudImg;
-	private int[] smallCloudsPos;
+	private ParallaxBackground background;
+	private RenderQueue renderQueue = new RenderQueue();
 	private Random rnd = new Random();
 
 	private boolean gameOver = false;
@@ -45,25 +52,40 @@ public class Playing extends State implements Statemethods {
 
 	private boolean playerDying = false;
 
+	private VolatileImage zoomBuffer;
+	private VolatileImage frozenScene;
+	private boolean sceneFrozen;
+	private int frozenOverlay;
 	private float currentZoom = 1.0f;
 	private float targetZoom = 1.0f;
-	private final float ZOOM_SPEED = 0.05f;
+	private final float ZOOM_SPEED = 10.26f; // per second, about 5% of the gap per tick at 200 UPS
 	private final float DEATH_ZOOM_LEVEL = 4.0f;
 
 	public Playing(Game game) {
 		super(game);
 		initClasses();
+		game.setLoadingProgress(0.9f);
 
-		backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.PLAYING_BG_IMG);
-		smallCloudImg = LoadSave.GetSpriteAtlas(LoadSave.SMALL_CLOUD);
-		smallCloudsPos = new int[8];
-		for(int i=0;i<smallCloudsPos.length;i++)
-			smallCloudsPos[i] =(int)(40* Game.SCALE) + rnd.nextInt((int)(100*Game.SCALE));
+		loadBackground();
 
 		calcLvlOffset();
 		loadStartLevel();
 	}
 
+	private void loadBackground() {
+		background = new ParallaxBackground();
+		background.addLayer(LoadSave.GetSpriteAtlas(LoadSave.PLAYING_BG_IMG), 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, 0);
+
+		int[] smallCloudsX = new int[8];
+		int[] smallCloudsY = new int[8];
+		for(int i=0;i<smallCloudsX.length;i++) {
+			smallCloudsX[i] = SMALL_CLOUD_WIDTH * 4 * i;
+			smallCloudsY[i] = (int)(40* Game.SCALE) + rnd.nextInt((int)(100*Game.SCALE));
+		}
+		background.addLayer(LoadSave.GetSpriteAtlas(LoadSave.SMALL_CLOUD), SMALL_CLOUD_WIDTH, SMALL_CLOUD_HEIGHT,
+				smallCloudsX, smallCloudsY, SMALL_CLOUD_WIDTH * 4 * smallCloudsX.length, 0.7f);
+	}
+
 	public void loadNextLevel(){
 		resetAll();
 		levelManager.loadNextLevel();
@@ -90,11 +112,14 @@ public class Playing extends State implements Statemethods {
 		pauseOverlay = new PauseOverlay(this);
 		gameOverOverlay = new GameOverOverlay(this);
 		levelCompletedOverlay = new LevelCompletedOverlay(this);
+		debugOverlay = new DebugOverlay(this);
+		hud = new HUD(player);
 
 	}
 
 	@Override
 	public void update() {
+		savePrevPositions();
 		if(paused){
 			pauseOverlay.update();
 		}
@@ -110,22 +135,45 @@ public class Playing extends State implements Statemethods {
 		else{
 			targetZoom = 1.0f;
 			levelManager.update();
+
+			long start = System.nanoTime();
 			objectManager.update(levelManager.getCurrentLevel().getLevelData(), player);
+			Timings.Record(UPDATE_OBJECTS, start);
+
+			start = System.nanoTime();
 			player.update();
+			Timings.Record(UPDATE_PLAYER, start);
+
+			start = System.nanoTime();
 			player.updateSpells();
+			long spellsTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
 			enemyManager.update(levelManager.getCurrentLevel().getLevelData(), player);
+			Timings.Record(UPDATE_ENEMIES, start);
+
+			start = System.nanoTime();
 			objectManager.updateSpells(levelManager.getCurrentLevel().getLevelData());
+			Timings.Add(UPDATE_SPELLS, spellsTime + System.nanoTime() - start);
 
 			checkClosetoBorder();
 		}
 		if (Math.abs(currentZoom - targetZoom) > 0.01f) {
-			currentZoom += (targetZoom - currentZoom) * ZOOM_SPEED;
+			currentZoom += (targetZoom - currentZoom) * (1 - (float) Math.exp(-ZOOM_SPEED * Game.getTickSeconds()));
 		} else {
 			currentZoom = targetZoom;
 		}
 
 	}
 
+	private void savePrevPositions() {
+		prevXLvlOffset = xLvlOffset;
+		player.savePrevPos();
+		player.saveSpellPositions();
+		enemyManager.savePrevPositions();
+		objectManager.savePrevPositions();
+	}
+
 	private void checkClosetoBorder() {
 		int playerX = (int) player.getHitbox().x;
 		int diff = playerX - xLvlOffset;
@@ -144,48 +192,135 @@ public class Playing extends State implements Statemethods {
 
 	@Override
 	public void draw(Graphics g) {
-		Graphics2D g2d = (Graphics2D) g;
-		AffineTransform originalTransform = g2d.getTransform();
+		draw(g, 1f);
+	}
 
-		if (currentZoom != 1.0f) {
-			int playerScreenX = (int)(player.getHitbox().x - xLvlOffset);
-			int playerScreenY = (int)player.getHitbox().y;
+	public void draw(Graphics g, float interpolation) {
+		int lvlOffset = Math.round(prevXLvlOffset + (xLvlOffset - prevXLvlOffset) * interpolation);
 
-			g2d.translate(playerScreenX, playerScreenY);
-			g2d.scale(currentZoom, currentZoom);
-			g2d.translate(-playerScreenX, -playerScreenY);
+		int overlay = paused ? 1 : gameOver ? 2 : lvlCompleted ? 3 : 0;
+		if (overlay != frozenOverlay || currentZoom != targetZoom)
+			sceneFrozen = false;
+		frozenOverlay = overlay;
+
+		if (overlay != 0 && currentZoom == targetZoom) {
+			drawFrozen((Graphics2D) g, lvlOffset, interpolation);
+		} else {
+			drawLive(g, lvlOffset, interpolation);
+			if (overlay != 0)
+				drawOverlayPanel(g);
 		}
 
-		g.drawImage(backgroundImg, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
+		long start = System.nanoTime();
+		if(paused)
+			pauseOverlay.drawButtons(g);
+		else if(gameOver)
+			gameOverOverlay.drawButtons(g);
+		else if(lvlCompleted)
+			levelCompletedOverlay.drawButtons(g);
+		Timings.Record(DRAW_OVERLAYS, start);
+	}
 
-		drawClouds(g);
+	private void drawLive(Graphics g, int lvlOffset, float interpolation) {
+		if (currentZoom != 1.0f)
+			drawZoomed((Graphics2D) g, lvlOffset, interpolation);
+		else
+			drawScene(g, lvlOffset, interpolation);
+	}
+
+	private void drawOverlayPanel(Graphics g) {
+		if(paused)
+			pauseOverlay.drawPanel(g);
+		else if(gameOver)
+			gameOverOverlay.drawPanel(g);
+		else if(lvlCompleted)
+			levelCompletedOverlay.drawPanel(g);
+	}
+
+	// Nothing in the scene moves while an overlay is open (once the zoom has settled), so the dimmed
+	// scene and the overlay panel are captured once and only the buttons are drawn over them.
+	// The capture is a volatile image for the screen's configuration, so the chunk cache and the zoom
+	// buffer drawn into it stay valid instead of being rebuilt on every open and close.
+	private void drawFrozen(Graphics2D g2d, int lvlOffset, float interpolation) {
+		GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+		do {
+			int status = frozenScene == null ? VolatileImage.IMAGE_INCOMPATIBLE : frozenScene.validate(gc);
+			if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+				if (frozenScene != null)
+					frozenScene.flush();
+				frozenScene = gc.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+				sceneFrozen = false;
+			} else if (status == VolatileImage.IMAGE_RESTORED)
+				sceneFrozen = false;
+
+			if (!sceneFrozen) {
+				Graphics2D fg = frozenScene.createGraphics();
+				drawLive(fg, lvlOffset, interpolation);
+				drawOverlayPanel(fg);
+				fg.dispose();
+				sceneFrozen = true;
+			}
+			g2d.drawImage(frozenScene, 0, 0, null);
+		} while (frozenScene.contentsLost());
+	}
 
-		levelManager.draw(g, xLvlOffset);
-		player.render(g, xLvlOffset);
-		enemyManager.draw(g, xLvlOffset);
-		objectManager.draw(g,xLvlOffset);
-		player.drawSpell(g,xLvlOffset);
+	private void drawScene(Graphics g, int lvlOffset, float interpolation) {
+		long start = System.nanoTime();
+		background.draw(g, lvlOffset);
+		Timings.Record(DRAW_BACKGROUND, start);
 
-		g2d.setTransform(originalTransform);
+		start = System.nanoTime();
+		levelManager.draw(g, lvlOffset);
+		Timings.Record(DRAW_LEVEL, start);
 
-		if(paused){
-			g.setColor(new Color(0, 0, 0,200));
-			g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
-			pauseOverlay.draw(g);
-		}
-		else if(gameOver){
-			gameOverOverlay.draw(g);
-		}else if(lvlCompleted)
-			levelCompletedOverlay.draw(g);
+		start = System.nanoTime();
+		player.render(renderQueue, lvlOffset, interpolation);
+		enemyManager.draw(renderQueue, lvlOffset, interpolation);
+		Timings.Record(DRAW_ENTITIES, start);
 
+		start = System.nanoTime();
+		objectManager.draw(renderQueue, lvlOffset, interpolation);
+		player.drawSpell(renderQueue, lvlOffset, interpolation);
+		Timings.Record(DRAW_OBJECTS, start);
 
-		g2d.setTransform(originalTransform);
+		start = System.nanoTime();
+		renderQueue.flush(g);
+		if (debugOverlay.isEnabled())
+			debugOverlay.draw(g, lvlOffset);
+		hud.draw(g);
+		Timings.Record(DRAW_FLUSH, start);
 	}
 
-	private void drawClouds(Graphics g) {
+	// Renders only the part of the scene that ends up on screen, at native scale, into zoomBuffer and
+	// scales that to the screen in one blit, instead of drawing everything through a scaled transform.
+	private void drawZoomed(Graphics2D g2d, int lvlOffset, float interpolation) {
+		float centerX = player.getDrawX(interpolation) - lvlOffset;
+		float centerY = player.getDrawY(interpolation);
+
+		int sx0 = Math.max(0, (int) Math.floor(centerX - centerX / currentZoom));
+		int sy0 = Math.max(0, (int) Math.floor(centerY - centerY / currentZoom));
+		int sx1 = Math.min(Game.GAME_WIDTH, (int) Math.ceil(centerX + (Game.GAME_WIDTH - centerX) / currentZoom));
+		int sy1 = Math.min(Game.GAME_HEIGHT, (int) Math.ceil(centerY + (Game.GAME_HEIGHT - centerY) / currentZoom));
+		if (sx1 <= sx0 || sy1 <= sy0)
+			return;
+
+		int dx0 = Math.round((sx0 - centerX) * currentZoom + centerX);
+		int dy0 = Math.round((sy0 - centerY) * currentZoom + centerY);
+		int dx1 = Math.round((sx1 - centerX) * currentZoom + centerX);
+		int dy1 = Math.round((sy1 - centerY) * currentZoom + centerY);
+
+		GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+		do {
+			if (zoomBuffer == null || zoomBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE)
+				zoomBuffer = gc.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+
+			Graphics2D bg = zoomBuffer.createGraphics();
+			bg.clipRect(sx0, sy0, sx1 - sx0, sy1 - sy0);
+			drawScene(bg, lvlOffset, interpolation);
+			bg.dispose();
 
-		for(int i=0;i<smallCloudsPos.length;i++)
-			g.drawImage(smallCloudImg, SMALL_CLOUD_WIDTH * 4 * i- (int)(xLvlOffset * 0.7), smallCloudsPos[i], SMALL_CLOUD_WIDTH, SMALL_CLOUD_HEIGHT, null);
+			g2d.drawImage(zoomBuffer, dx0, dy0, dx1, dy1, sx0, sy0, sx1, sy1, null);
+		} while (zoomBuffer.contentsLost());
 	}
 
 	public void resetAll(){
@@ -247,6 +382,12 @@ public class Playing extends State implements Statemethods {
 				case KeyEvent.VK_ESCAPE:
 					paused = !paused;
 					break;
+				case KeyEvent.VK_F3:
+					debugOverlay.toggle();
+					break;
+				case KeyEvent.VK_F12:
+					Timings.DumpToFile("timings.txt");
+					break;
 				case KeyEvent.VK_Q:
 					if(!player.isShooting()){
 						player.setShooting(true);
@@ -319,6 +460,14 @@ public class Playing extends State implements Statemethods {
 		}
 	}
 
+	public boolean isGameOver() {
+		return gameOver;
+	}
+
+	public boolean isLevelCompleted() {
+		return lvlCompleted;
+	}
+
 	public void setLevelCompleted(boolean levelCompleted) {
 		this.lvlCompleted = levelCompleted;
 		if(levelCompleted)
@@ -353,12 +502,16 @@ public class Playing extends State implements Statemethods {
 		objectManager.checkObjectHit(attackBox);
 	}
 
+	public RenderQueue getRenderQueue(){
+		return renderQueue;
+	}
+
 	public LevelManager getLevelManager(){
 		return levelManager;
 	}
 
 	public void resetJumpBoost(){
-		player.activateJumpBoost(0);
+		player.clearJumpBoost();
 	}
 
 	public void setPlayerDying(boolean playerDying) {
@@ -0,0 +1,66 @@
+package inputs;
+
+import java.awt.AWTEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Bounded ring buffer that hands input events from the AWT event thread (the only producer)
+// to the game thread (the only consumer) without locking. Events arriving while it is full are dropped.
+public class InputQueue {
+
+	private final AWTEvent[] events;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong(); // next slot to read, only written by the game thread
+	private final AtomicLong tail = new AtomicLong(); // next slot to write, only written by the event thread
+	private volatile long dropped;
+	private volatile Thread consumer;
+
+	public InputQueue(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		events = new AWTEvent[size];
+		mask = size - 1;
+	}
+
+	public boolean offer(AWTEvent e) {
+		long t = tail.get();
+		if (t - head.get() >= events.length) {
+			dropped++;
+			return false;
+		}
+		events[(int) (t & mask)] = e;
+		tail.lazySet(t + 1);
+
+		Thread c = consumer;
+		if (c != null)
+			LockSupport.unpark(c);
+		return true;
+	}
+
+	// The thread to wake when an event arrives, for when it parks while idle
+	public void setConsumer(Thread consumer) {
+		this.consumer = consumer;
+	}
+
+	public void drain(Consumer<AWTEvent> handler) {
+		long h = head.get();
+		long t = tail.get();
+		while (h < t) {
+			int index = (int) (h & mask);
+			AWTEvent e = events[index];
+			events[index] = null;
+			handler.accept(e);
+			h++;
+		}
+		head.lazySet(h);
+	}
+
+	public boolean isEmpty() {
+		return head.get() == tail.get();
+	}
+
+	public long getDropped() {
+		return dropped;
+	}
+
+}
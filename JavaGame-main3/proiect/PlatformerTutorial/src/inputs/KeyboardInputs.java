@@ -21,6 +21,29 @@ public class KeyboardInputs implements KeyListener {
 
 	@Override
 	public void keyReleased(KeyEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	@Override
+	public void keyPressed(KeyEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	// Called on the game thread for every queued key event
+	public void dispatch(KeyEvent e) {
+		switch (e.getID()) {
+		case KeyEvent.KEY_PRESSED:
+			handleKeyPressed(e);
+			break;
+		case KeyEvent.KEY_RELEASED:
+			handleKeyReleased(e);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void handleKeyReleased(KeyEvent e) {
 		switch (Gamestate.state) {
 		case MENU:
 			gamePanel.getGame().getMenu().keyReleased(e);
@@ -28,14 +51,16 @@ public class KeyboardInputs implements KeyListener {
 		case PLAYING:
 			gamePanel.getGame().getPlaying().keyReleased(e);
 			break;
+		case LOADING:
+			gamePanel.getGame().getLoading().keyReleased(e);
+			break;
 		default:
 			break;
 
 		}
 	}
 
-	@Override
-	public void keyPressed(KeyEvent e) {
+	private void handleKeyPressed(KeyEvent e) {
 		switch (Gamestate.state) {
 		case MENU:
 			gamePanel.getGame().getMenu().keyPressed(e);
@@ -15,8 +15,56 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 		this.gamePanel = gamePanel;
 	}
 
+	// Called on the game thread for every queued mouse event
+	public void dispatch(MouseEvent e) {
+		gamePanel.toGameCoords(e);
+		switch (e.getID()) {
+		case MouseEvent.MOUSE_DRAGGED:
+			handleMouseDragged(e);
+			break;
+		case MouseEvent.MOUSE_MOVED:
+			handleMouseMoved(e);
+			break;
+		case MouseEvent.MOUSE_CLICKED:
+			handleMouseClicked(e);
+			break;
+		case MouseEvent.MOUSE_PRESSED:
+			handleMousePressed(e);
+			break;
+		case MouseEvent.MOUSE_RELEASED:
+			handleMouseReleased(e);
+			break;
+		default:
+			break;
+		}
+	}
+
 	@Override
 	public void mouseDragged(MouseEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	@Override
+	public void mouseMoved(MouseEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	@Override
+	public void mouseClicked(MouseEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	@Override
+	public void mousePressed(MouseEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	@Override
+	public void mouseReleased(MouseEvent e) {
+		gamePanel.getGame().getInputQueue().offer(e);
+	}
+
+	private void handleMouseDragged(MouseEvent e) {
 		switch (Gamestate.state) {
 			case PLAYING:
 				gamePanel.getGame().getPlaying().mouseDragged(e);
@@ -32,8 +80,7 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 
 	}
 
-	@Override
-	public void mouseMoved(MouseEvent e) {
+	private void handleMouseMoved(MouseEvent e) {
 		switch (Gamestate.state) {
 		case MENU:
 			gamePanel.getGame().getMenu().mouseMoved(e);
@@ -51,8 +98,7 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 
 	}
 
-	@Override
-	public void mouseClicked(MouseEvent e) {
+	private void handleMouseClicked(MouseEvent e) {
 		switch (Gamestate.state) {
 		case PLAYING:
 			gamePanel.getGame().getPlaying().mouseClicked(e);
@@ -64,8 +110,7 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 
 	}
 
-	@Override
-	public void mousePressed(MouseEvent e) {
+	private void handleMousePressed(MouseEvent e) {
 		switch (Gamestate.state) {
 		case MENU:
 			gamePanel.getGame().getMenu().mousePressed(e);
@@ -83,8 +128,7 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 
 	}
 
-	@Override
-	public void mouseReleased(MouseEvent e) {
+	private void handleMouseReleased(MouseEvent e) {
 		switch (Gamestate.state) {
 		case MENU:
 			gamePanel.getGame().getMenu().mouseReleased(e);
@@ -95,6 +139,9 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
 			case OPTIONS:
 				gamePanel.getGame().getGameOptions().mouseReleased(e);
 				break;
+			case LOADING:
+				gamePanel.getGame().getLoading().mouseReleased(e);
+				break;
 		default:
 			break;
 
@@ -0,0 +1,104 @@
+package levels;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import main.Game;
+
+// The tile layer of one level, pre-rendered into screen-height chunk images so a frame only blits
+// the two or three chunks in view. Chunks are built the first time they come into view, rebuilt if
+// their video memory is lost, and flushed once they are more than KEEP_DISTANCE chunks off screen.
+public class LevelChunkCache {
+
+	private static final int CHUNK_TILES = 16;
+	private static final int KEEP_DISTANCE = 1;
+
+	private Level level;
+	private BufferedImage[] levelSprite;
+	private VolatileImage[] chunks;
+	private int tilesDrawn, chunksDrawn;
+
+	public LevelChunkCache(Level level, BufferedImage[] levelSprite) {
+		this.level = level;
+		this.levelSprite = levelSprite;
+		int columns = level.getLevelData()[0].length;
+		chunks = new VolatileImage[(columns + CHUNK_TILES - 1) / CHUNK_TILES];
+	}
+
+	public void draw(Graphics g, int lvlOffset) {
+		GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+		int chunkWidth = CHUNK_TILES * Game.TILES_SIZE;
+		int first = Math.max(0, lvlOffset / chunkWidth);
+		int last = Math.min(chunks.length - 1, (lvlOffset + Game.GAME_WIDTH - 1) / chunkWidth);
+
+		tilesDrawn = 0;
+		chunksDrawn = 0;
+		for (int c = first; c <= last; c++)
+			drawChunk(g, gc, c, c * chunkWidth - lvlOffset);
+
+		for (int c = 0; c < chunks.length; c++)
+			if (chunks[c] != null && (c < first - KEEP_DISTANCE || c > last + KEEP_DISTANCE)) {
+				chunks[c].flush();
+				chunks[c] = null;
+			}
+	}
+
+	private void drawChunk(Graphics g, GraphicsConfiguration gc, int c, int x) {
+		do {
+			int status = chunks[c] == null ? VolatileImage.IMAGE_INCOMPATIBLE : chunks[c].validate(gc);
+			if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+				if (chunks[c] != null)
+					chunks[c].flush();
+				chunks[c] = gc.createCompatibleVolatileImage(getChunkColumns(c) * Game.TILES_SIZE, Game.GAME_HEIGHT, Transparency.TRANSLUCENT);
+				renderChunk(c);
+			} else if (status == VolatileImage.IMAGE_RESTORED)
+				renderChunk(c);
+
+			g.drawImage(chunks[c], x, 0, null);
+		} while (chunks[c].contentsLost());
+		chunksDrawn++;
+	}
+
+	private void renderChunk(int c) {
+		Graphics2D g = chunks[c].createGraphics();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, chunks[c].getWidth(), chunks[c].getHeight());
+		g.setComposite(AlphaComposite.SrcOver);
+
+		int firstColumn = c * CHUNK_TILES;
+		for (int j = 0; j < Game.TILES_IN_HEIGHT; j++)
+			for (int i = 0; i < getChunkColumns(c); i++) {
+				int index = level.getSpriteIndex(firstColumn + i, j);
+				g.drawImage(levelSprite[index], Game.TILES_SIZE * i, Game.TILES_SIZE * j, Game.TILES_SIZE, Game.TILES_SIZE, null);
+				tilesDrawn++;
+			}
+		g.dispose();
+	}
+
+	private int getChunkColumns(int c) {
+		return Math.min(CHUNK_TILES, level.getLevelData()[0].length - c * CHUNK_TILES);
+	}
+
+	public void flush() {
+		for (int c = 0; c < chunks.length; c++)
+			if (chunks[c] != null) {
+				chunks[c].flush();
+				chunks[c] = null;
+			}
+	}
+
+	// Tiles rendered into chunks during the last draw; zero once every chunk in view is cached
+	public int getTilesDrawn() {
+		return tilesDrawn;
+	}
+
+	public int getChunksDrawn() {
+		return chunksDrawn;
+	}
+
+}
@@ -17,12 +17,14 @@ public class LevelManager {
 	private BufferedImage[] levelSprite;
 	private ArrayList<Level> levels;
 	private int lvlIndex = 0;
+	private LevelChunkCache chunkCache;
 
 	public LevelManager(Game game) {
 		this.game = game;
 		importOutsideSprites();
 		levels = new ArrayList<>();
 		buildAllLevels();
+		chunkCache = new LevelChunkCache(getCurrentLevel(), levelSprite);
 	}
 
 	public void loadNextLevel(){
@@ -35,6 +37,8 @@ public class LevelManager {
 		}
 
 		Level newLevel = levels.get(lvlIndex);
+		chunkCache.flush();
+		chunkCache = new LevelChunkCache(newLevel, levelSprite);
 		game.getPlaying().getEnemyManager().loadEnemies(newLevel);
 		game.getPlaying().getPlayer().loadLvlData(newLevel.getLevelData());
 		game.getPlaying().setMaxLvlOffset(newLevel.getLvlOffset());
@@ -44,8 +48,10 @@ public class LevelManager {
 
 	private void buildAllLevels() {
 		BufferedImage[] allLevels = LoadSave.GetAllLevels();
-		for(BufferedImage img: allLevels)
+		for(BufferedImage img: allLevels) {
 			levels.add(new Level(img));
+			game.setLoadingProgress(0.8f * levels.size() / allLevels.length);
+		}
 	}
 
 	private void importOutsideSprites() {
@@ -58,12 +64,18 @@ public class LevelManager {
 			}
 	}
 
+	// Only the pre-rendered chunks in view for lvlOffset are drawn
 	public void draw(Graphics g, int lvlOffset) {
-		for (int j = 0; j < Game.TILES_IN_HEIGHT; j++)
-			for (int i = 0; i < levels.get(lvlIndex).getLevelData()[0].length; i++) {
-				int index = levels.get(lvlIndex).getSpriteIndex(i, j);
-				g.drawImage(levelSprite[index], Game.TILES_SIZE * i - lvlOffset, Game.TILES_SIZE * j, Game.TILES_SIZE, Game.TILES_SIZE, null);
-			}
+		chunkCache.draw(g, lvlOffset);
+	}
+
+	// Tiles rendered by the last draw; only chunks coming into view cost any
+	public int getTilesDrawn() {
+		return chunkCache.getTilesDrawn();
+	}
+
+	public int getChunksDrawn() {
+		return chunkCache.getChunksDrawn();
 	}
 
 
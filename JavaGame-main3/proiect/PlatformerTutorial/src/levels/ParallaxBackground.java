@@ -0,0 +1,76 @@
+package levels;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import main.Game;
+import utilz.SpriteCache;
+
+// Background layers that scroll at a fraction of the level offset. A single-image layer is scaled once
+// into a horizontally tileable strip, at most period + GAME_WIDTH wide, so any screen-wide window of it
+// is one unscaled blit. A sparse layer (a few copies of a small image spread over a long period) keeps
+// one pre-scaled copy and blits only the ones in view, rather than a huge mostly transparent strip.
+public class ParallaxBackground {
+
+	private List<Layer> layers = new ArrayList<>();
+
+	private static class Layer {
+		BufferedImage strip;
+		BufferedImage sprite;
+		int[] xs, ys;
+		int y, period;
+		float scrollFactor;
+	}
+
+	// One image stretched to width x height at y, repeating every width pixels
+	public void addLayer(BufferedImage img, int y, int width, int height, float scrollFactor) {
+		int copies = scrollFactor == 0 ? 1 : (Game.GAME_WIDTH + width - 1) / width + 1;
+		Layer layer = new Layer();
+		layer.strip = SpriteCache.CreateCompatibleImage(scrollFactor == 0 ? width : width + Game.GAME_WIDTH, height);
+		layer.y = y;
+		layer.period = width;
+		layer.scrollFactor = scrollFactor;
+
+		Graphics2D g = layer.strip.createGraphics();
+		for (int k = 0; k < copies; k++)
+			g.drawImage(img, k * width, 0, width, height, null);
+		g.dispose();
+
+		layers.add(layer);
+	}
+
+	// Copies of img, each width x height, at xs[i], ys[i]; the whole pattern repeats every period pixels
+	public void addLayer(BufferedImage img, int width, int height, int[] xs, int[] ys, int period, float scrollFactor) {
+		Layer layer = new Layer();
+		layer.sprite = SpriteCache.GetScaled(img, width, height);
+		layer.xs = xs.clone();
+		layer.ys = ys.clone();
+		layer.period = period;
+		layer.scrollFactor = scrollFactor;
+		layers.add(layer);
+	}
+
+	public void draw(Graphics g, int xOffset) {
+		for (Layer l : layers) {
+			int sx = Math.floorMod((int) (xOffset * l.scrollFactor), l.period);
+			if (l.strip != null) {
+				int w = Math.min(Game.GAME_WIDTH, l.strip.getWidth() - sx);
+				int h = l.strip.getHeight();
+				g.drawImage(l.strip, 0, l.y, w, l.y + h, sx, 0, sx + w, h, null);
+			} else
+				drawSprites(g, l, sx);
+		}
+	}
+
+	private void drawSprites(Graphics g, Layer l, int sx) {
+		int width = l.sprite.getWidth();
+		for (int i = 0; i < l.xs.length; i++)
+			for (int x = Math.floorMod(l.xs[i] - sx, l.period) - l.period; x < Game.GAME_WIDTH; x += l.period)
+				if (x + width > 0)
+					g.drawImage(l.sprite, x, l.ys[i], null);
+	}
+
+}
@@ -1,14 +1,26 @@
 package main;
 
+import java.awt.AWTEvent;
 import java.awt.Graphics;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowEvent;
 import java.sql.DatabaseMetaData;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
 
 import audio.AudioPlayer;
 import gamestates.GameOptions;
 import gamestates.Gamestate;
+import gamestates.Loading;
 import gamestates.Menu;
 import gamestates.Playing;
+import inputs.InputQueue;
 import ui.AudioOptions;
+import utilz.LoadSave;
+import utilz.TextureAtlas;
+import utilz.Timings;
 
 public class Game implements Runnable {
 
@@ -16,29 +28,63 @@ public class Game implements Runnable {
 	private GamePanel gamePanel;
 	private Thread gameThread;
 	private final int FPS_SET = 120;
-	private final int UPS_SET = 200;
-
-
-	private Playing playing;
+	private static volatile int upsSet = 200;
+	private final long SPIN_THRESHOLD = 1000000; // the last millisecond before a deadline is spun, not parked
+	private static final float MIN_SCALE = 0.5f, MAX_SCALE = 6f;
+	private final long IDLE_REFRESH = 250000000; // an idle screen is still presented this often, in case the window was damaged
+
+	private long jitterTotal, jitterMax;
+	private int wakeUps;
+	private long avgWakeJitter, maxWakeJitter;
+
+	private int maxUpdatesPerLoop = 10;
+	private long caughtUpTicks, droppedTicks, skippedFrames;
+	private volatile int measuredFps, measuredUps;
+	private Gamestate lastRenderedState;
+	private long lastPresent;
+
+	private volatile Playing playing;
+	private volatile float loadingProgress;
+	private CompletableFuture<Void> gameImages;
+	private volatile Throwable loadFailure;
+	private Loading loading;
 	private Menu menu;
 	private GameOptions gameOptions;
 	private AudioOptions audioOptions;
 	private AudioPlayer audioPlayer;
+	private InputQueue inputQueue = new InputQueue(256);
+
+	// The scales are read once, when Game is loaded (MainClass fills them in from the command line), and
+	// every scaled size, speed and offset in the game derives from SCALE. SCALE is the resolution the game
+	// renders at; the window opens at WINDOW_SCALE and GamePanel letterboxes the frame into whatever size it is.
+	// --lowres renders at the native tile size and keeps the default window.
+	public final static float DEFAULT_SCALE = 1.75f; // the scale the game was tuned at
+	public final static float SCALE = readScale("game.scale", Boolean.getBoolean("game.lowres") ? 1f : DEFAULT_SCALE);
+	public final static float WINDOW_SCALE = readScale("game.windowScale", Boolean.getBoolean("game.lowres") ? DEFAULT_SCALE : SCALE);
 
 	public final static int TILES_DEFAULT_SIZE = 32;
-	public final static float SCALE = 1.75f;
 	public final static int TILES_IN_WIDTH = 26;
 	public final static int TILES_IN_HEIGHT = 14;
 	public final static int TILES_SIZE = (int) (TILES_DEFAULT_SIZE * SCALE);
 	public final static int GAME_WIDTH = TILES_SIZE * TILES_IN_WIDTH;
 	public final static int GAME_HEIGHT = TILES_SIZE * TILES_IN_HEIGHT;
+	public final static int WINDOW_WIDTH = (int) (TILES_DEFAULT_SIZE * WINDOW_SCALE) * TILES_IN_WIDTH;
+	public final static int WINDOW_HEIGHT = (int) (TILES_DEFAULT_SIZE * WINDOW_SCALE) * TILES_IN_HEIGHT;
 
 	
 	public Game() {
-		initClasses();
+		this(false);
+	}
+
+	// A headless game has no window, no audio and no game thread; the caller drives update() itself
+	public Game(boolean headless) {
+		initClasses(headless);
+		if (headless)
+			return;
 
 		gamePanel = new GamePanel(this);
 		gameWindow = new GameWindow(gamePanel);
+		gamePanel.initBufferStrategy();
 		gamePanel.requestFocus();
 
 		System.out.println(Game.GAME_WIDTH + " , "+ Game.GAME_HEIGHT);
@@ -47,20 +93,57 @@ public class Game implements Runnable {
 
 	}
 
-	private void initClasses() {
+	private void initClasses(boolean headless) {
+		// Only the menu's images are waited for before the first frame; the rest decode on the pool
+		// while the audio clips load and the menu is up, and Playing waits for them
+		CompletableFuture<Void> menuImages = CompletableFuture.runAsync(() -> LoadSave.Preload(LoadSave.Group.MENU));
+		gameImages = CompletableFuture.runAsync(() -> {
+			LoadSave.Preload(LoadSave.Group.LEVEL);
+			LoadSave.Preload(LoadSave.Group.UI);
+		});
+		audioPlayer = new AudioPlayer(!headless);
+		menuImages.join();
+
 		audioOptions = new AudioOptions(this);
-		audioPlayer = new AudioPlayer();
 		menu = new Menu(this);
-		playing = new Playing(this);
 		gameOptions = new GameOptions(this);
+		loading = new Loading(this);
+
+		if (headless) {
+			gameImages.join();
+			playing = new Playing(this);
+		} else
+			loadPlayingInBackground();
+	}
+
+	// Playing builds every level, so it is made off the game thread while the menu is already up
+	private void loadPlayingInBackground() {
+		Thread loader = new Thread(() -> {
+			try {
+				gameImages.join();
+				playing = new Playing(this);
+				TextureAtlas.Pack(); // once, here, rather than on the first frame that draws a new sprite
+				loadingProgress = 1f;
+				System.out.print(LoadSave.Summary());
+			} catch (Throwable t) {
+				// Loading shows this instead of waiting on a bar that will never fill
+				loadFailure = t;
+				t.printStackTrace();
+			}
+		}, "Playing loader");
+		loader.setDaemon(true);
+		loader.start();
 	}
 
 	private void startGameLoop() {
 		gameThread = new Thread(this);
+		inputQueue.setConsumer(gameThread);
 		gameThread.start();
 	}
 
 	public void update() {
+		inputQueue.drain(this::dispatchInput);
+
 		switch (Gamestate.state) {
 		case MENU:
 			menu.update();
@@ -71,6 +154,9 @@ public class Game implements Runnable {
 		case OPTIONS:
 			gameOptions.update();
 			break;
+		case LOADING:
+			loading.update();
+			break;
 		case QUIT:
 		default:
 			System.exit(0);
@@ -79,17 +165,32 @@ public class Game implements Runnable {
 		}
 	}
 
-	public void render(Graphics g) {
+	// Input is captured on the AWT event thread and applied here, on the game thread, before each tick
+	private void dispatchInput(AWTEvent e) {
+		if (e instanceof KeyEvent)
+			gamePanel.getKeyboardInputs().dispatch((KeyEvent) e);
+		else if (e instanceof MouseEvent)
+			gamePanel.getMouseInputs().dispatch((MouseEvent) e);
+		else if (e.getID() == WindowEvent.WINDOW_LOST_FOCUS)
+			windowFocusLost();
+		else if (e.getID() == ComponentEvent.COMPONENT_RESIZED)
+			lastRenderedState = null; // present again even if the screen is idle
+	}
+
+	public void render(Graphics g, float interpolation) {
 		switch (Gamestate.state) {
 		case MENU:
 			menu.draw(g);
 			break;
 		case PLAYING:
-			playing.draw(g);
+			playing.draw(g, interpolation);
 			break;
 		case OPTIONS:
 			gameOptions.draw(g);
 			break;
+		case LOADING:
+			loading.draw(g);
+			break;
 		default:
 			break;
 		}
@@ -99,7 +200,6 @@ public class Game implements Runnable {
 	public void run() {
 
 		double timePerFrame = 1000000000.0 / FPS_SET;
-		double timePerUpdate = 1000000000.0 / UPS_SET;
 
 		long previousTime = System.nanoTime();
 
@@ -111,33 +211,117 @@ public class Game implements Runnable {
 		double deltaF = 0;
 
 		while (true) {
+			double timePerUpdate = 1000000000.0 / upsSet;
 			long currentTime = System.nanoTime();
 
 			deltaU += (currentTime - previousTime) / timePerUpdate;
 			deltaF += (currentTime - previousTime) / timePerFrame;
 			previousTime = currentTime;
 
-			if (deltaU >= 1) {
+			int steps = 0;
+			while (deltaU >= 1 && steps < maxUpdatesPerLoop) {
+				long start = System.nanoTime();
 				update();
+				Timings.Record(Timings.Phase.TICK, start);
 				updates++;
 				deltaU--;
+				steps++;
+			}
+			if (steps > 1)
+				caughtUpTicks += steps - 1;
+
+			// Still behind after the cap: drop the backlog rather than spiral further behind
+			if (deltaU >= 1) {
+				droppedTicks += (long) deltaU;
+				deltaU -= (long) deltaU;
+			}
+
+			// Only the latest frame is worth drawing; any other frames that came due are skipped
+			if (deltaF >= 2) {
+				skippedFrames += (long) deltaF - 1;
+				deltaF -= (long) deltaF - 1;
 			}
 
-			if (deltaF >= 1) {
-				gamePanel.repaint();
-				frames++;
+			if (deltaF >= 1 && isIdle() && Gamestate.state == lastRenderedState
+					&& System.nanoTime() - lastPresent < IDLE_REFRESH) {
+				deltaF--;
+			} else if (deltaF >= 1) {
+				lastRenderedState = Gamestate.state;
+				lastPresent = System.nanoTime();
+				long start = System.nanoTime();
+				if (gamePanel.renderFrame((float) Math.min(deltaU, 1))) {
+					Timings.Record(Timings.Phase.FRAME, start);
+					frames++;
+				}
 				deltaF--;
 			}
 
 			if (System.currentTimeMillis() - lastCheck >= 1000) {
 				lastCheck = System.currentTimeMillis();
-				System.out.println("FPS: " + frames + " | UPS: " + updates);
+				updateJitterStats();
+				System.out.println("FPS: " + frames + " | UPS: " + updates + " | wake jitter avg/max: "
+						+ avgWakeJitter / 1000 + "/" + maxWakeJitter / 1000 + " us"
+						+ " | caught up: " + caughtUpTicks + " | dropped ticks: " + droppedTicks + " | skipped frames: " + skippedFrames);
+				measuredFps = frames;
+				measuredUps = updates;
 				frames = 0;
 				updates = 0;
 
 			}
+
+			// Nothing to show until input arrives: sleep until offer() unparks us or the refresh is due
+			if (isIdle() && Gamestate.state == lastRenderedState && inputQueue.isEmpty()) {
+				LockSupport.parkNanos(this, IDLE_REFRESH - (System.nanoTime() - lastPresent));
+				previousTime = System.nanoTime();
+				deltaU = 1;
+				deltaF = 1;
+				continue;
+			}
+
+			long elapsed = System.nanoTime() - previousTime;
+			double untilUpdate = (1 - deltaU) * timePerUpdate - elapsed;
+			double untilFrame = (1 - deltaF) * timePerFrame - elapsed;
+			long wait = (long) Math.min(untilUpdate, untilFrame);
+			if (wait > 0)
+				waitUntil(System.nanoTime() + wait);
+		}
+
+	}
+
+	// A retained screen with nothing new to draw
+	private boolean isIdle() {
+		switch (Gamestate.state) {
+		case MENU:
+			return !menu.needsRepaint();
+		case OPTIONS:
+			return !gameOptions.needsRepaint();
+		default:
+			return false;
+		}
+	}
+
+	private void waitUntil(long deadline) {
+		long parkTime = deadline - System.nanoTime() - SPIN_THRESHOLD;
+		if (parkTime > 0) {
+			long expectedWake = System.nanoTime() + parkTime;
+			LockSupport.parkNanos(this, parkTime);
+			long jitter = Math.abs(System.nanoTime() - expectedWake);
+			jitterTotal += jitter;
+			if (jitter > jitterMax)
+				jitterMax = jitter;
+			wakeUps++;
 		}
 
+		while (System.nanoTime() < deadline)
+			Thread.onSpinWait();
+	}
+
+	private void updateJitterStats() {
+		avgWakeJitter = wakeUps == 0 ? 0 : jitterTotal / wakeUps;
+		maxWakeJitter = jitterMax;
+		jitterTotal = 0;
+		jitterMax = 0;
+		wakeUps = 0;
 	}
 
 	public void windowFocusLost() {
@@ -153,15 +337,123 @@ public class Game implements Runnable {
 		return playing;
 	}
 
+	public boolean isPlayingLoaded() {
+		return playing != null;
+	}
+
+	public float getLoadingProgress() {
+		return loadingProgress;
+	}
+
+	// Why Playing could not be built, or null if it has not failed
+	public Throwable getLoadFailure() {
+		return loadFailure;
+	}
+
+	public void setLoadingProgress(float loadingProgress) {
+		this.loadingProgress = loadingProgress;
+	}
+
 	public AudioOptions getAudioOptions() {
 		return audioOptions;
 	}
 
+	public Loading getLoading() {
+		return loading;
+	}
+
 	public GameOptions getGameOptions() {
 		return gameOptions;
 	}
 
+	public InputQueue getInputQueue() {
+		return inputQueue;
+	}
+
 	public AudioPlayer getAudioPlayer(){
 		return audioPlayer;
 	}
+
+	// Runs in the static initializer, so a bad value must fall back rather than throw
+	private static float readScale(String property, float defaultScale) {
+		String value = System.getProperty(property);
+		if (value == null)
+			return defaultScale;
+		float scale;
+		try {
+			scale = Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			scale = Float.NaN;
+		}
+		if (Float.isNaN(scale) || Float.isInfinite(scale)) {
+			System.err.println("Ignoring " + property + "=" + value + ", using " + defaultScale);
+			return defaultScale;
+		}
+		return Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale));
+	}
+
+	// Can be changed while running; all physics and animation timing is derived from it
+	public static void setUps(int ups) {
+		upsSet = Math.max(1, ups);
+	}
+
+	// For a rate given on the command line; like readScale it falls back instead of throwing
+	public static void setUps(String value) {
+		int ups;
+		try {
+			ups = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			ups = 0;
+		}
+		if (ups <= 0) {
+			System.err.println("Ignoring ups=" + value + ", using " + upsSet);
+			return;
+		}
+		setUps(ups);
+	}
+
+	public static int getUps() {
+		return upsSet;
+	}
+
+	public static float getTickSeconds() {
+		return 1f / upsSet;
+	}
+
+	public static int secondsToTicks(float seconds) {
+		return Math.max(1, Math.round(seconds * upsSet));
+	}
+
+	public void setMaxUpdatesPerLoop(int maxUpdatesPerLoop) {
+		this.maxUpdatesPerLoop = Math.max(1, maxUpdatesPerLoop);
+	}
+
+	public long getCaughtUpTicks() {
+		return caughtUpTicks;
+	}
+
+	public long getDroppedTicks() {
+		return droppedTicks;
+	}
+
+	// Frames and updates counted over the last full second
+	public int getMeasuredFps() {
+		return measuredFps;
+	}
+
+	public int getMeasuredUps() {
+		return measuredUps;
+	}
+
+	public long getSkippedFrames() {
+		return skippedFrames;
+	}
+
+	public long getAvgWakeJitter() {
+		return avgWakeJitter;
+	}
+
+	public long getMaxWakeJitter() {
+		return maxWakeJitter;
+	}
 }
\ No newline at end of file
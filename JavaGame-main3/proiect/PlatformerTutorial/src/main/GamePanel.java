@@ -1,43 +1,159 @@
 package main;
 
+import java.awt.Canvas;
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
-import javax.swing.JPanel;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+
 import inputs.KeyboardInputs;
 import inputs.MouseInputs;
 import static main.Game.GAME_HEIGHT;
 import static main.Game.GAME_WIDTH;
+import static main.Game.WINDOW_HEIGHT;
+import static main.Game.WINDOW_WIDTH;
 
-public class GamePanel extends JPanel {
+public class GamePanel extends Canvas {
 
 	private MouseInputs mouseInputs;
+	private KeyboardInputs keyboardInputs;
 	private Game game;
+	private VolatileImage frameBuffer;
+	private Object upscaleFilter = GetUpscaleFilter(System.getProperty("game.upscale", "nearest"));
 
 	public GamePanel(Game game) {
 		mouseInputs = new MouseInputs(this);
+		keyboardInputs = new KeyboardInputs(this);
 		this.game = game;
 		setPanelSize();
-		addKeyListener(new KeyboardInputs(this));
+		setIgnoreRepaint(true);
+		addKeyListener(keyboardInputs);
 		addMouseListener(mouseInputs);
 		addMouseMotionListener(mouseInputs);
+		addComponentListener(new ComponentAdapter() {
+			@Override
+			public void componentResized(ComponentEvent e) {
+				game.getInputQueue().offer(e);
+			}
+		});
 	}
 
 	private void setPanelSize() {
-		Dimension size = new Dimension(GAME_WIDTH, GAME_HEIGHT);
+		Dimension size = new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT);
 		setPreferredSize(size);
 	}
 
+	public void initBufferStrategy() {
+		createBufferStrategy(2);
+	}
+
 	public void updateGame() {
 
 	}
 
-	public void paintComponent(Graphics g) {
-		super.paintComponent(g);
-		game.render(g);
+	// Draws a frame straight into the back buffer and presents it. Returns false if nothing was shown.
+	// interpolation is how far (0..1) the loop is between the last update and the next one
+	public boolean renderFrame(float interpolation) {
+		BufferStrategy bs = getBufferStrategy();
+		if (bs == null)
+			return false;
+
+		do {
+			do {
+				Graphics g = bs.getDrawGraphics();
+				try {
+					if (getWidth() == GAME_WIDTH && getHeight() == GAME_HEIGHT) {
+						g.setColor(getBackground());
+						g.fillRect(0, 0, getWidth(), getHeight());
+						game.render(g, interpolation);
+					} else {
+						renderFrameBuffer(interpolation);
+						Rectangle view = getViewport();
+						g.setColor(Color.BLACK);
+						g.fillRect(0, 0, getWidth(), getHeight());
+						((Graphics2D) g).setRenderingHint(RenderingHints.KEY_INTERPOLATION, upscaleFilter);
+						g.drawImage(frameBuffer, view.x, view.y, view.width, view.height, null);
+					}
+				} finally {
+					g.dispose();
+				}
+			} while (bs.contentsRestored());
+			bs.show();
+		} while (bs.contentsLost());
+
+		Toolkit.getDefaultToolkit().sync();
+		return true;
+	}
+
+	// When the window is not the size the game renders at, the frame is drawn here at render size
+	// and scaled to the window in one blit, so sprites are never scaled one by one
+	private void renderFrameBuffer(float interpolation) {
+		GraphicsConfiguration gc = getGraphicsConfiguration();
+		do {
+			if (frameBuffer == null || frameBuffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE)
+				frameBuffer = gc.createCompatibleVolatileImage(GAME_WIDTH, GAME_HEIGHT);
+
+			Graphics g = frameBuffer.createGraphics();
+			try {
+				g.setColor(getBackground());
+				g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+				game.render(g, interpolation);
+			} finally {
+				g.dispose();
+			}
+		} while (frameBuffer.contentsLost());
+	}
+
+	// The largest area of the panel with the game's aspect ratio, centred; the rest is letterboxed
+	private Rectangle getViewport() {
+		float scale = Math.min(getWidth() / (float) GAME_WIDTH, getHeight() / (float) GAME_HEIGHT);
+		int width = Math.round(GAME_WIDTH * scale);
+		int height = Math.round(GAME_HEIGHT * scale);
+		return new Rectangle((getWidth() - width) / 2, (getHeight() - height) / 2, width, height);
+	}
+
+	// Mouse events arrive in window pixels; everything behind them works in framebuffer pixels
+	public void toGameCoords(MouseEvent e) {
+		if (getWidth() == GAME_WIDTH && getHeight() == GAME_HEIGHT)
+			return;
+		Rectangle view = getViewport();
+		if (view.width == 0 || view.height == 0)
+			return;
+		int x = (e.getX() - view.x) * GAME_WIDTH / view.width;
+		int y = (e.getY() - view.y) * GAME_HEIGHT / view.height;
+		e.translatePoint(x - e.getX(), y - e.getY());
+	}
+
+	private static Object GetUpscaleFilter(String name) {
+		switch (name) {
+		case "bilinear":
+			return RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+		case "bicubic":
+			return RenderingHints.VALUE_INTERPOLATION_BICUBIC;
+		default:
+			return RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+		}
 	}
 
 	public Game getGame() {
 		return game;
 	}
 
-}
\ No newline at end of file
+	public KeyboardInputs getKeyboardInputs() {
+		return keyboardInputs;
+	}
+
+	public MouseInputs getMouseInputs() {
+		return mouseInputs;
+	}
+
+}
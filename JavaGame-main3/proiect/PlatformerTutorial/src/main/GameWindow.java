@@ -15,7 +15,7 @@ public class GameWindow {
 		jframe.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		jframe.add(gamePanel);
 
-		jframe.setResizable(false);
+		jframe.setResizable(true);
 		jframe.pack();
 		jframe.setLocationRelativeTo(null);
 		jframe.setVisible(true);
@@ -24,7 +24,7 @@ public class GameWindow {
 
 			@Override
 			public void windowLostFocus(WindowEvent e) {
-				gamePanel.getGame().windowFocusLost();
+				gamePanel.getGame().getInputQueue().offer(e);
 			}
 
 			@Override
@@ -0,0 +1,52 @@
+package main;
+
+import gamestates.Gamestate;
+import gamestates.Playing;
+import utilz.LoadSave;
+import utilz.TextureAtlas;
+import utilz.Timings;
+
+// Steps the simulation as fast as possible without a window or audio, for balance and performance runs.
+// Usage: HeadlessRunner [ticks] [timings file] [ups]
+public class HeadlessRunner {
+
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		if (args.length > 2)
+			Game.setUps(args[2]);
+
+		Game game = new Game(true);
+		Playing playing = game.getPlaying();
+		Gamestate.state = Gamestate.PLAYING;
+
+		int levelsCompleted = 0;
+		int deaths = 0;
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ticks; i++) {
+			if (playing.isGameOver()) {
+				deaths++;
+				playing.resetAll();
+			} else if (playing.isLevelCompleted()) {
+				levelsCompleted++;
+				playing.loadNextLevel();
+				Gamestate.state = Gamestate.PLAYING;
+			}
+			long tickStart = System.nanoTime();
+			game.update();
+			Timings.Record(Timings.Phase.TICK, tickStart);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		System.out.println("Ticks: " + ticks + " in " + elapsed / 1000000 + " ms ("
+				+ (long) (ticks / (elapsed / 1000000000.0)) + " ticks/s)");
+		System.out.println("Levels completed: " + levelsCompleted + " | Deaths: " + deaths);
+		System.out.print(Timings.Summary());
+		System.out.print(LoadSave.Summary());
+		System.out.print(TextureAtlas.Summary());
+		if (args.length > 1)
+			Timings.DumpToFile(args[1]);
+	}
+
+}
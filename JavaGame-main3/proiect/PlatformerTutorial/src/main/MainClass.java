@@ -3,6 +3,20 @@ package main;
 public class MainClass {
 
 	public static void main(String[] args) {
+		// Render settings are read when Game is loaded, so they have to be set before anything touches it
+		for (String arg : args)
+			if (arg.equals("--lowres"))
+				System.setProperty("game.lowres", "true");
+			else if (arg.startsWith("--scale="))
+				System.setProperty("game.scale", arg.substring("--scale=".length()));
+			else if (arg.startsWith("--window-scale="))
+				System.setProperty("game.windowScale", arg.substring("--window-scale=".length()));
+			else if (arg.startsWith("--upscale="))
+				System.setProperty("game.upscale", arg.substring("--upscale=".length()));
+
+		for (String arg : args)
+			if (arg.startsWith("--ups="))
+				Game.setUps(arg.substring("--ups=".length()));
 		new Game();
 	}
 
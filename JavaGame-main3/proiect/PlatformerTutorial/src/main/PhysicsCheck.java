@@ -0,0 +1,57 @@
+package main;
+
+import entities.Player;
+import gamestates.Playing;
+
+// Jumps from the level 1 spawn at several update rates and compares how high the player gets.
+// Gameplay has to be the same whatever --ups is; exits with 1 if the apexes differ by more than the tolerance.
+// Usage: PhysicsCheck [ups...]
+public class PhysicsCheck {
+
+	private static final float TOLERANCE = 0.5f; // pixels
+	private static final int MAX_TICKS = 1000;
+
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+		int[] rates = { 60, 120, 200 };
+		if (args.length > 0) {
+			rates = new int[args.length];
+			for (int i = 0; i < args.length; i++)
+				rates[i] = Integer.parseInt(args[i]);
+		}
+
+		Playing playing = new Game(true).getPlaying();
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		for (int ups : rates) {
+			float apex = JumpApex(playing, ups);
+			System.out.printf("%4d UPS: apex %.2f px%n", ups, apex);
+			min = Math.min(min, apex);
+			max = Math.max(max, apex);
+		}
+		System.out.printf("Spread: %.2f px (tolerance %.2f)%n", max - min, TOLERANCE);
+		System.exit(max - min <= TOLERANCE ? 0 : 1);
+	}
+
+	// Height of the highest point reached above the take-off position
+	private static float JumpApex(Playing playing, int ups) {
+		Game.setUps(ups);
+		playing.resetAll();
+		Player player = playing.getPlayer();
+
+		// Settle on the floor first, in case the spawn is above it
+		for (int i = 0; i < MAX_TICKS && player.isInAir(); i++)
+			player.update();
+
+		float start = player.getHitbox().y;
+		float top = start;
+		player.setJump(true);
+		player.update();
+		player.setJump(false);
+		for (int i = 0; i < MAX_TICKS && player.isInAir(); i++) {
+			player.update();
+			top = Math.min(top, player.getHitbox().y);
+		}
+		return start - top;
+	}
+
+}
@@ -0,0 +1,117 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import gamestates.Gamestate;
+import gamestates.Playing;
+import utilz.LoadSave;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
+import utilz.Timings;
+
+import static utilz.Constants.EnemyConstants.*;
+
+// Measures what a rendered frame costs, without running the game loop.
+// Usage: RenderBenchmark [frames]
+public class RenderBenchmark {
+
+	private static final int BLITS = 20000;
+
+	public static void main(String[] args) {
+		int frames = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		Image target = CreateTarget();
+
+		BufferedImage[] rawPlayer = LoadFrames(LoadSave.PLAYER_ATLAS, 8, 32, 32);
+		BufferedImage[] rawSkelly = LoadFrames(LoadSave.SKELLY_SPRITE, 9, SKELLY_WIDTH_DEFAULT, SKELLY_HEIGHT_DEFAULT);
+		int playerW = (int) (40 * Game.SCALE), playerH = (int) (40 * Game.SCALE);
+
+		System.out.println("Sprite blits (" + BLITS + " each, ns per blit):");
+		Compare(target, "player", rawPlayer, SpriteCache.GetScaled(rawPlayer, playerW, playerH), playerW, playerH);
+		Compare(target, "skelly", rawSkelly, SpriteCache.GetScaled(rawSkelly, SKELLY_WIDTH, SKELLY_HEIGHT), SKELLY_WIDTH, SKELLY_HEIGHT);
+
+		System.out.println("Mirrored blits (" + BLITS + " each, ns per blit):");
+		BufferedImage[] player = SpriteCache.GetScaled(rawPlayer, playerW, playerH);
+		BufferedImage[] skelly = SpriteCache.GetScaled(rawSkelly, SKELLY_WIDTH, SKELLY_HEIGHT);
+		CompareMirrored(target, "player", player, SpriteCache.GetMirrored(player));
+		CompareMirrored(target, "skelly", skelly, SpriteCache.GetMirrored(skelly));
+
+		Game game = new Game(true);
+		Playing playing = game.getPlaying();
+		Gamestate.state = Gamestate.PLAYING;
+		for (int i = 0; i < 200; i++)
+			game.update();
+
+		Timings.Reset();
+		long start = System.nanoTime();
+		for (int i = 0; i < frames; i++) {
+			Graphics2D g = (Graphics2D) target.getGraphics();
+			long frameStart = System.nanoTime();
+			playing.draw(g, 1f);
+			Timings.Record(Timings.Phase.FRAME, frameStart);
+			g.dispose();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		System.out.println("Frames: " + frames + " in " + elapsed / 1000000 + " ms");
+		System.out.println("Sprite draw calls in the last frame: " + playing.getRenderQueue().getDrawCalls()
+				+ " (" + playing.getRenderQueue().getCulled() + " culled)");
+		System.out.print(Timings.Summary());
+		System.out.print(LoadSave.Summary());
+		System.out.print(TextureAtlas.Summary());
+	}
+
+	private static Image CreateTarget() {
+		if (GraphicsEnvironment.isHeadless())
+			return new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+				.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+	}
+
+	private static BufferedImage[] LoadFrames(String atlas, int count, int w, int h) {
+		BufferedImage img = LoadSave.GetSpriteAtlas(atlas);
+		BufferedImage[] frames = new BufferedImage[count];
+		for (int i = 0; i < count; i++)
+			frames[i] = img.getSubimage(i * w, 0, w, h);
+		return frames;
+	}
+
+	private static void Compare(Image target, String name, BufferedImage[] raw, BufferedImage[] cached, int w, int h) {
+		// first pass warms up the JIT and any cached surfaces
+		Blit(target, raw, w, h, true);
+		Blit(target, cached, w, h, false);
+		long rawNs = Blit(target, raw, w, h, true);
+		long cachedNs = Blit(target, cached, w, h, false);
+		System.out.println(String.format("  %-8s scaled subimage %6d | cached %6d", name, rawNs / BLITS, cachedNs / BLITS));
+	}
+
+	private static void CompareMirrored(Image target, String name, BufferedImage[] frames, BufferedImage[] mirrored) {
+		int w = frames[0].getWidth(), h = frames[0].getHeight();
+		Blit(target, frames, -w, h, true);
+		Blit(target, mirrored, w, h, false);
+		long negativeNs = Blit(target, frames, -w, h, true);
+		long mirroredNs = Blit(target, mirrored, w, h, false);
+		System.out.println(String.format("  %-8s negative width %6d | pre-flipped %6d", name, negativeNs / BLITS, mirroredNs / BLITS));
+	}
+
+	// A negative w draws the frame mirrored, the way the game used to
+	private static long Blit(Image target, BufferedImage[] frames, int w, int h, boolean scale) {
+		Graphics2D g = (Graphics2D) target.getGraphics();
+		long start = System.nanoTime();
+		for (int i = 0; i < BLITS; i++) {
+			BufferedImage frame = frames[i % frames.length];
+			int x = (i * 7) % (Game.GAME_WIDTH - Math.abs(w)) + Math.max(0, -w);
+			int y = (i * 13) % (Game.GAME_HEIGHT - h);
+			if (scale)
+				g.drawImage(frame, x, y, w, h, null);
+			else
+				g.drawImage(frame, x, y, null);
+		}
+		long elapsed = System.nanoTime() - start;
+		g.dispose();
+		return elapsed;
+	}
+
+}
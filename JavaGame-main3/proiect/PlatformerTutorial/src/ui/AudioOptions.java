@@ -5,6 +5,7 @@ import static utilz.Constants.UI.VolumeButtons.SLIDER_WIDTH;
 import static utilz.Constants.UI.VolumeButtons.VOLUME_HEIGHT;
 
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 
 import gamestates.Gamestate;
@@ -108,4 +109,14 @@ public class AudioOptions {
         return b.getBounds().contains(e.getX(), e.getY());
     }
 
-}
\ No newline at end of file
+    // Lets a retained screen repaint the sound buttons and the slider only when they change
+    public void track(RetainedScreen screen) {
+        screen.track(musicButton.getBounds(), musicButton::getIndex);
+        screen.track(sfxButton.getBounds(), sfxButton::getIndex);
+
+        Rectangle slider = new Rectangle(volumeButton.getX(), volumeButton.getY(), volumeButton.getWidth(), volumeButton.getHeight());
+        screen.track(slider, volumeButton::getIndex);
+        screen.track(slider, volumeButton::getButtonX);
+    }
+
+}
@@ -0,0 +1,123 @@
+package ui;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.geom.Rectangle2D;
+
+import Objects.Cannon;
+import entities.Player;
+import entities.Skelly;
+import gamestates.Playing;
+import levels.Level;
+import main.Game;
+import utilz.TextureAtlas;
+import utilz.Timings;
+
+import static utilz.HelpMethods.CanCannonSeePlayer;
+import static utilz.HelpMethods.IsTileSolid;
+import static utilz.Timings.Phase.*;
+
+// Hitboxes, attack boxes, the tile grid, enemy and cannon sight lines and frame diagnostics.
+// Toggled with F3; Playing skips it entirely while it is off.
+public class DebugOverlay {
+
+    private static final Color GRID = new Color(255, 255, 255, 40);
+    private static final Color SOLID_TILE = new Color(255, 255, 0, 60);
+    private static final Color SIGHT_CLEAR = new Color(0, 255, 0, 160);
+    private static final Color SIGHT_BLOCKED = new Color(255, 0, 0, 100);
+    private static final Color PANEL = new Color(0, 0, 0, 160);
+
+    private Playing playing;
+    private boolean enabled;
+
+    public DebugOverlay(Playing playing) {
+        this.playing = playing;
+    }
+
+    public void draw(Graphics g, int lvlOffset) {
+        Level level = playing.getLevelManager().getCurrentLevel();
+        Player player = playing.getPlayer();
+
+        drawGrid(g, level.getLevelData(), lvlOffset);
+        drawSightLines(g, level, player, lvlOffset);
+
+        for (Skelly s : level.getSkellies()) {
+            s.drawHitbox(g, lvlOffset);
+            if (s.isActive())
+                s.drawAttackBox(g, lvlOffset);
+        }
+        player.drawHitbox(g, lvlOffset);
+        player.drawAttackBox(g, lvlOffset);
+
+        drawDiagnostics(g, player, lvlOffset);
+    }
+
+    private void drawGrid(Graphics g, int[][] lvlData, int lvlOffset) {
+        int firstCol = Math.max(0, lvlOffset / Game.TILES_SIZE);
+        int lastCol = Math.min(lvlData[0].length - 1, (lvlOffset + Game.GAME_WIDTH) / Game.TILES_SIZE);
+
+        g.setColor(SOLID_TILE);
+        for (int y = 0; y < lvlData.length; y++)
+            for (int x = firstCol; x <= lastCol; x++)
+                if (IsTileSolid(x, y, lvlData))
+                    g.fillRect(x * Game.TILES_SIZE - lvlOffset, y * Game.TILES_SIZE, Game.TILES_SIZE, Game.TILES_SIZE);
+
+        g.setColor(GRID);
+        for (int x = firstCol; x <= lastCol + 1; x++)
+            g.drawLine(x * Game.TILES_SIZE - lvlOffset, 0, x * Game.TILES_SIZE - lvlOffset, Game.GAME_HEIGHT);
+        for (int y = 0; y <= lvlData.length; y++)
+            g.drawLine(0, y * Game.TILES_SIZE, Game.GAME_WIDTH, y * Game.TILES_SIZE);
+    }
+
+    private void drawSightLines(Graphics g, Level level, Player player, int lvlOffset) {
+        int[][] lvlData = level.getLevelData();
+        for (Skelly s : level.getSkellies())
+            if (s.isActive())
+                drawSightLine(g, s.getHitbox(), player.getHitbox(), s.canSeePlayer(lvlData, player), lvlOffset);
+
+        for (Cannon c : level.getCannons())
+            if (c.getTileY() == player.getTileY())
+                drawSightLine(g, c.getHitbox(), player.getHitbox(),
+                        CanCannonSeePlayer(lvlData, player.getHitbox(), c.getHitbox(), c.getTileY()), lvlOffset);
+    }
+
+    private void drawSightLine(Graphics g, Rectangle2D.Float from, Rectangle2D.Float to, boolean clear, int lvlOffset) {
+        g.setColor(clear ? SIGHT_CLEAR : SIGHT_BLOCKED);
+        g.drawLine((int) from.getCenterX() - lvlOffset, (int) from.getCenterY(),
+                (int) to.getCenterX() - lvlOffset, (int) to.getCenterY());
+    }
+
+    private void drawDiagnostics(Graphics g, Player player, int lvlOffset) {
+        Game game = playing.getGame();
+        String[] lines = {
+                "FPS " + game.getMeasuredFps() + "  UPS " + game.getMeasuredUps() + " / " + Game.getUps(),
+                String.format("tick %.1f us  frame %.1f us (p99 %.1f)", Timings.GetAvg(TICK) / 1000.0,
+                        Timings.GetAvg(FRAME) / 1000.0, Timings.GetP99(FRAME) / 1000.0),
+                String.format("player %.0f, %.0f  tile %d  offset %d", player.getHitbox().x, player.getHitbox().y,
+                        player.getTileY(), lvlOffset),
+                "sprites " + playing.getRenderQueue().getDrawCalls() + " drawn, " + playing.getRenderQueue().getCulled()
+                        + " culled  atlas pages " + TextureAtlas.GetPageCount(),
+                "chunks " + playing.getLevelManager().getChunksDrawn() + "  tiles rebuilt " + playing.getLevelManager().getTilesDrawn(),
+                "dropped ticks " + game.getDroppedTicks() + "  skipped frames " + game.getSkippedFrames(),
+                "dropped input events " + game.getInputQueue().getDropped()
+        };
+
+        int lineHeight = g.getFontMetrics().getHeight();
+        int x = Game.GAME_WIDTH - (int) (230 * Game.SCALE);
+        int y = (int) (10 * Game.SCALE);
+        g.setColor(PANEL);
+        g.fillRect(x - 6, y - 4, (int) (225 * Game.SCALE), lineHeight * lines.length + 8);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++)
+            g.drawString(lines[i], x, y + lineHeight * (i + 1) - 4);
+    }
+
+    public void toggle() {
+        enabled = !enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+}
@@ -2,7 +2,6 @@ package ui;
 
 import static utilz.Constants.UI.URMButtons.URM_SIZE;
 
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
@@ -13,6 +12,8 @@ import gamestates.Gamestate;
 import gamestates.Playing;
 import main.Game;
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import static utilz.Constants.UI.OVERLAY_DIM;
 
 public class GameOverOverlay {
 
@@ -40,17 +41,26 @@ public class GameOverOverlay {
         img = LoadSave.GetSpriteAtlas(LoadSave.DEATH_SCREEN);
         imgW = (int) (img.getWidth() * Game.SCALE);
         imgH = (int) (img.getHeight() * Game.SCALE);
+        img = SpriteCache.GetScaled(img, imgW, imgH);
         imgX = Game.GAME_WIDTH / 2 - imgW / 2;
         imgY = (int) (100 * Game.SCALE);
 
     }
 
     public void draw(Graphics g) {
-        g.setColor(new Color(0, 0, 0, 200));
+        drawPanel(g);
+        drawButtons(g);
+    }
+
+    // The parts that do not change while the overlay is open
+    public void drawPanel(Graphics g) {
+        g.setColor(OVERLAY_DIM);
         g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
-        g.drawImage(img, imgX, imgY, imgW, imgH, null);
+        g.drawImage(img, imgX, imgY, null);
+    }
 
+    public void drawButtons(Graphics g) {
         menu.draw(g);
         play.draw(g);
     }
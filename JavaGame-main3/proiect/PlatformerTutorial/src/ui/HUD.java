@@ -0,0 +1,113 @@
+package ui;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import entities.Player;
+import main.Game;
+import utilz.LoadSave;
+import utilz.SpriteCache;
+
+// The status bar with the health and power bars, kept painted in an image. It is only touched when
+// the player's health or power actually changes; everything else per frame is one blit.
+public class HUD {
+
+    private static final Color POWER_LOW = new Color(255, 255, 255, 200);
+    private static final Color POWER_MID = new Color(42, 66, 110, 255);
+    private static final Color POWER_HIGH = new Color(65, 98, 161, 255);
+    private static final Color POWER_FULL = new Color(54, 108, 214, 255);
+
+    private int statusBarWidth = (int) (192 * Game.SCALE);
+    private int statusBarHeight = (int) (58 * Game.SCALE);
+    private int statusBarX = (int) (10 * Game.SCALE);
+    private int statusBarY = (int) (380 * Game.SCALE);
+
+    private int healthBarWidth = (int) (150 * Game.SCALE);
+    private int healthBarHeight = (int) (4 * Game.SCALE);
+    private int healthBarXStart = (int) (34 * Game.SCALE);
+    private int healthBarYStart = (int) (14 * Game.SCALE);
+
+    private int powerBarWidth = (int) (104 * Game.SCALE);
+    private int powerBarHeight = (int) (3 * Game.SCALE);
+    private int powerBarXStart = (int) (44 * Game.SCALE);
+    private int powerBarYStart = (int) (34 * Game.SCALE);
+
+    private Player player;
+    private BufferedImage statusBarImg;
+    private BufferedImage image;
+
+    // What the cached image currently shows; -1 forces a repaint
+    private int shownHealth = -1, shownPower = -1;
+    private int healthWidth, powerWidth;
+    private Color healthColor, powerColor;
+
+    public HUD(Player player) {
+        this.player = player;
+        statusBarImg = SpriteCache.GetScaled(LoadSave.GetSpriteAtlas(LoadSave.STATUS_BAR), statusBarWidth, statusBarHeight);
+        image = SpriteCache.CreateCompatibleImage(statusBarWidth, statusBarHeight);
+    }
+
+    public void draw(Graphics g) {
+        refresh();
+        g.drawImage(image, statusBarX, statusBarY, null);
+    }
+
+    private void refresh() {
+        int health = player.getCurrentHealth();
+        int power = player.getPowerValue();
+        if (health == shownHealth && power == shownPower)
+            return;
+
+        Graphics2D g = image.createGraphics();
+        if (shownHealth == -1)
+            repaintArea(g, 0, 0, statusBarWidth, statusBarHeight);
+
+        if (health != shownHealth) {
+            healthWidth = (int) (healthBarWidth * health / (float) player.getMaxHealth());
+            healthColor = health > player.getMaxHealth() / 2 ? Color.RED : Color.ORANGE;
+            repaintArea(g, healthBarXStart, healthBarYStart, healthBarWidth, healthBarHeight);
+            g.setColor(healthColor);
+            g.fillRect(healthBarXStart, healthBarYStart, healthWidth, healthBarHeight);
+            shownHealth = health;
+        }
+
+        if (power != shownPower) {
+            int width = (int) (powerBarWidth * power / (float) player.getPowerMaxValue());
+            Color color = GetPowerColor(power);
+            g.setColor(color);
+            if (color == powerColor && width >= powerWidth) {
+                // Regen: the bar only grew in the same colour, so just extend it
+                g.fillRect(powerBarXStart + powerWidth, powerBarYStart, width - powerWidth, powerBarHeight);
+            } else {
+                repaintArea(g, powerBarXStart, powerBarYStart, powerBarWidth, powerBarHeight);
+                g.setColor(color);
+                g.fillRect(powerBarXStart, powerBarYStart, width, powerBarHeight);
+            }
+            powerWidth = width;
+            powerColor = color;
+            shownPower = power;
+        }
+        g.dispose();
+    }
+
+    // Restores part of the cache to the bare status bar
+    private void repaintArea(Graphics2D g, int x, int y, int w, int h) {
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(statusBarImg, x, y, x + w, y + h, x, y, x + w, y + h, null);
+        g.setComposite(AlphaComposite.SrcOver);
+    }
+
+    private static Color GetPowerColor(int powerValue) {
+        if (powerValue <= 25)
+            return POWER_LOW;
+        else if (powerValue <= 50)
+            return POWER_MID;
+        else if (powerValue <= 75)
+            return POWER_HIGH;
+        return POWER_FULL;
+    }
+
+}
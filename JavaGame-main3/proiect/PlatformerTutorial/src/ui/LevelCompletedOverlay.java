@@ -1,6 +1,5 @@
 package ui;
 
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -10,6 +9,8 @@ import gamestates.Gamestate;
 import gamestates.Playing;
 import main.Game;
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import static utilz.Constants.UI.OVERLAY_DIM;
 import static utilz.Constants.UI.URMButtons.*;
 
 public class LevelCompletedOverlay {
@@ -37,15 +38,25 @@ public class LevelCompletedOverlay {
         img = LoadSave.GetSpriteAtlas(LoadSave.COMPLETED_IMG);
         bgW = (int) (img.getWidth() * Game.SCALE);
         bgH = (int) (img.getHeight() * Game.SCALE);
+        img = SpriteCache.GetScaled(img, bgW, bgH);
         bgX = Game.GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (75 * Game.SCALE);
     }
 
     public void draw(Graphics g) {
-        g.setColor(new Color(0, 0, 0, 200));
+        drawPanel(g);
+        drawButtons(g);
+    }
+
+    // The parts that do not change while the overlay is open
+    public void drawPanel(Graphics g) {
+        g.setColor(OVERLAY_DIM);
         g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
-        g.drawImage(img, bgX, bgY, bgW, bgH, null);
+        g.drawImage(img, bgX, bgY, null);
+    }
+
+    public void drawButtons(Graphics g) {
         next.draw(g);
         menu.draw(g);
     }
@@ -6,13 +6,15 @@ import java.awt.image.BufferedImage;
 
 import gamestates.Gamestate;
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.UI.Buttons.*;
 
 public class MenuButton {
 	private int xPos, yPos, rowIndex, index;
 	private int xOffsetCenter = B_WIDTH / 2;
 	private Gamestate state;
-	private BufferedImage[] imgs;
+	private int[] imgs;
 	private boolean mouseOver, mousePressed;
 	private Rectangle bounds;
 
@@ -31,14 +33,15 @@ public class MenuButton {
 	}
 
 	private void loadImgs() {
-		imgs = new BufferedImage[3];
+		BufferedImage[] frames = new BufferedImage[3];
 		BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.MENU_BUTTONS);
-		for (int i = 0; i < imgs.length; i++)
-			imgs[i] = temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+		for (int i = 0; i < frames.length; i++)
+			frames[i] = temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+		imgs = TextureAtlas.Add(SpriteCache.GetScaled(frames, B_WIDTH, B_HEIGHT));
 	}
 
 	public void draw(Graphics g) {
-		g.drawImage(imgs[index], xPos - xOffsetCenter, yPos, B_WIDTH, B_HEIGHT, null);
+		TextureAtlas.Draw(g, imgs[index], xPos - xOffsetCenter, yPos);
 	}
 
 	public void update() {
@@ -81,4 +84,9 @@ public class MenuButton {
 	public Gamestate getState() {
 		return state;
 	}
+
+	public int getIndex() {
+		return index;
+	}
+
 }
@@ -9,6 +9,8 @@ import gamestates.Playing;
 import main.Game;
 import utilz.Constants;
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import static utilz.Constants.UI.OVERLAY_DIM;
 import static utilz.Constants.UI.PauseButtons.*;
 import static utilz.Constants.UI.URMButtons.*;
 import static utilz.Constants.UI.VolumeButtons.*;
@@ -47,6 +49,7 @@ public class PauseOverlay {
         backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.PAUSE_BACKGROUND);
         bgW = (int) (backgroundImg.getWidth() * Game.SCALE);
         bgH = (int) (backgroundImg.getHeight() * Game.SCALE);
+        backgroundImg = SpriteCache.GetScaled(backgroundImg, bgW, bgH);
         bgX = Game.GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (25 * Game.SCALE);
 
@@ -62,9 +65,20 @@ public class PauseOverlay {
     }
 
     public void draw(Graphics g) {
+        drawPanel(g);
+        drawButtons(g);
+    }
+
+    // The parts that do not change while the overlay is open
+    public void drawPanel(Graphics g) {
+        g.setColor(OVERLAY_DIM);
+        g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+
         // Background
-        g.drawImage(backgroundImg, bgX, bgY, bgW, bgH, null);
+        g.drawImage(backgroundImg, bgX, bgY, null);
+    }
 
+    public void drawButtons(Graphics g) {
         // UrmButtons
         menuB.draw(g);
         replayB.draw(g);
@@ -0,0 +1,79 @@
+package ui;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import main.Game;
+
+// Keeps a screen that rarely changes (the menu, the options) painted in an image. Each tracked
+// widget has an area and a state value; when a value changes only that area is repainted, clipped,
+// and until something changes the screen does not need presenting at all.
+public class RetainedScreen {
+
+    private Consumer<Graphics> painter;
+    private BufferedImage image;
+
+    private List<Rectangle> areas = new ArrayList<>();
+    private List<IntSupplier> states = new ArrayList<>();
+    private int[] lastStates = new int[0];
+
+    private List<Rectangle> dirty = new ArrayList<>();
+    private boolean fullRepaint = true;
+
+    public RetainedScreen(Consumer<Graphics> painter) {
+        this.painter = painter;
+    }
+
+    public void track(Rectangle area, IntSupplier state) {
+        areas.add(area);
+        states.add(state);
+        lastStates = new int[states.size()];
+        fullRepaint = true;
+    }
+
+    // Call after the widgets have updated; marks the areas of those whose state changed
+    public void refresh() {
+        for (int i = 0; i < states.size(); i++) {
+            int state = states.get(i).getAsInt();
+            if (state != lastStates[i]) {
+                lastStates[i] = state;
+                dirty.add(areas.get(i));
+            }
+        }
+    }
+
+    public boolean needsRepaint() {
+        return fullRepaint || !dirty.isEmpty();
+    }
+
+    public void draw(Graphics g) {
+        GraphicsConfiguration gc = ((Graphics2D) g).getDeviceConfiguration();
+        if (image == null || !image.getColorModel().equals(gc.getColorModel())) {
+            image = gc.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+            fullRepaint = true;
+        }
+
+        Graphics2D ig = image.createGraphics();
+        if (fullRepaint) {
+            painter.accept(ig);
+        } else {
+            for (Rectangle r : dirty) {
+                ig.setClip(r);
+                painter.accept(ig);
+            }
+        }
+        ig.dispose();
+        fullRepaint = false;
+        dirty.clear();
+
+        g.drawImage(image, 0, 0, null);
+    }
+
+}
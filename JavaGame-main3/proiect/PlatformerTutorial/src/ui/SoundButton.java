@@ -4,11 +4,13 @@ import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.UI.PauseButtons.*;
 
 public class SoundButton extends PauseButton {
 
-    private BufferedImage[][] soundImgs;
+    private int[][] soundImgs;
     private boolean mouseOver, mousePressed;
     private boolean muted;
     private int rowIndex, colIndex;
@@ -21,10 +23,11 @@ public class SoundButton extends PauseButton {
 
     private void loadSoundImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.SOUND_BUTTONS);
-        soundImgs = new BufferedImage[2][3];
-        for (int j = 0; j < soundImgs.length; j++)
-            for (int i = 0; i < soundImgs[j].length; i++)
-                soundImgs[j][i] = temp.getSubimage(i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+        BufferedImage[][] frames = new BufferedImage[2][3];
+        for (int j = 0; j < frames.length; j++)
+            for (int i = 0; i < frames[j].length; i++)
+                frames[j][i] = temp.getSubimage(i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+        soundImgs = TextureAtlas.Add(SpriteCache.GetScaled(frames, width, height));
     }
 
     public void update() {
@@ -47,7 +50,7 @@ public class SoundButton extends PauseButton {
     }
 
     public void draw(Graphics g) {
-        g.drawImage(soundImgs[rowIndex][colIndex], x, y, width, height, null);
+        TextureAtlas.Draw(g, soundImgs[rowIndex][colIndex], x, y);
     }
 
     public boolean isMouseOver() {
@@ -74,4 +77,9 @@ public class SoundButton extends PauseButton {
         this.muted = muted;
     }
 
-}
\ No newline at end of file
+    // Which of the six images is showing: muted row and hover/press column
+    public int getIndex() {
+        return rowIndex * 3 + colIndex;
+    }
+
+}
@@ -4,10 +4,12 @@ import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.UI.URMButtons.*;
 
 public class UrmButton extends PauseButton {
-    private BufferedImage[] imgs;
+    private int[] imgs;
     private int rowIndex, index;
     private boolean mouseOver, mousePressed;
 
@@ -19,9 +21,10 @@ public class UrmButton extends PauseButton {
 
     private void loadImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.URM_BUTTONS);
-        imgs = new BufferedImage[3];
-        for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE);
+        BufferedImage[] frames = new BufferedImage[3];
+        for (int i = 0; i < frames.length; i++)
+            frames[i] = temp.getSubimage(i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE);
+        imgs = TextureAtlas.Add(SpriteCache.GetScaled(frames, URM_SIZE, URM_SIZE));
 
     }
 
@@ -35,7 +38,7 @@ public class UrmButton extends PauseButton {
     }
 
     public void draw(Graphics g) {
-        g.drawImage(imgs[index], x, y, URM_SIZE, URM_SIZE, null);
+        TextureAtlas.Draw(g, imgs[index], x, y);
     }
 
     public void resetBools() {
@@ -59,4 +62,8 @@ public class UrmButton extends PauseButton {
         this.mousePressed = mousePressed;
     }
 
-}
\ No newline at end of file
+    public int getIndex() {
+        return index;
+    }
+
+}
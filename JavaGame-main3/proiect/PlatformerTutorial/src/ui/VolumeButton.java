@@ -4,12 +4,14 @@ import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
 import utilz.LoadSave;
+import utilz.SpriteCache;
+import utilz.TextureAtlas;
 import static utilz.Constants.UI.VolumeButtons.*;
 
 public class VolumeButton extends PauseButton {
 
-    private BufferedImage[] imgs;
-    private BufferedImage slider;
+    private int[] imgs;
+    private int slider;
     private int index = 0;
     private boolean mouseOver, mousePressed;
     private int buttonX, minX, maxX;
@@ -28,11 +30,14 @@ public class VolumeButton extends PauseButton {
 
     private void loadImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.VOLUME_BUTTONS);
-        imgs = new BufferedImage[3];
-        for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        BufferedImage[] frames = new BufferedImage[3];
+        for (int i = 0; i < frames.length; i++)
+            frames[i] = temp.getSubimage(i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
 
-        slider = temp.getSubimage(3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        BufferedImage sliderImg = temp.getSubimage(3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+
+        imgs = TextureAtlas.Add(SpriteCache.GetScaled(frames, VOLUME_WIDTH, height));
+        slider = TextureAtlas.Add(SpriteCache.GetScaled(sliderImg, width, height));
 
     }
 
@@ -47,8 +52,8 @@ public class VolumeButton extends PauseButton {
 
     public void draw(Graphics g) {
 
-        g.drawImage(slider, x, y, width, height, null);
-        g.drawImage(imgs[index], buttonX - VOLUME_WIDTH / 2, y, VOLUME_WIDTH, height, null);
+        TextureAtlas.Draw(g, slider, x, y);
+        TextureAtlas.Draw(g, imgs[index], buttonX - VOLUME_WIDTH / 2, y);
 
     }
 
@@ -97,5 +102,12 @@ public class VolumeButton extends PauseButton {
         return floatValue;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
+    public int getButtonX() {
+        return buttonX;
+    }
 
-}
\ No newline at end of file
+}
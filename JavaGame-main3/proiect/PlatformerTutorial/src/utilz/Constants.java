@@ -1,13 +1,17 @@
 package utilz;
 
+import java.awt.Color;
+
 import main.Game;
 
 public class Constants {
 
-	public static final float GRAVITY = 0.04f * Game.SCALE;
-	public static final int ANI_SPEED = 17;
-	public static final int ANI_SPEED_CHAR = 40;
-	public static final float BOOSTED_JUMP = -7.5f;
+	// Speeds are in pixels per second, accelerations in pixels per second squared and
+	// animation speeds in seconds per frame; scale them by Game.getTickSeconds() each tick.
+	public static final float GRAVITY = 1600f * Game.SCALE;
+	public static final float ANI_SPEED = 0.085f;
+	public static final float ANI_SPEED_CHAR = 0.2f;
+	public static final float BOOSTED_JUMP = -1500f * Game.SCALE / Game.DEFAULT_SCALE;
 
 	public static class Projectiles{
 		public static final int CANNON_BALL_DEFAULT_WIDTH = 15;
@@ -15,7 +19,12 @@ public class Constants {
 
 		public static final int CANNON_BALL_WIDTH = (int)(Game.SCALE * CANNON_BALL_DEFAULT_WIDTH);
 		public static final int CANNON_BALL_HEIGHT = (int)(Game.SCALE * CANNON_BALL_DEFAULT_HEIGHT);
-		public static final float SPEED = 0.75f * Game.SCALE;
+		public static final float SPEED = 150f * Game.SCALE;
+
+		// The fireball spell was laid out in pixels at the default scale, so it scales relative to that
+		public static final int FIREBALL_SIZE = Math.round(50 * Game.SCALE / Game.DEFAULT_SCALE);
+		public static final int FIREBALL_DRAW_OFFSET_Y = Math.round(30 * Game.SCALE / Game.DEFAULT_SCALE);
+		public static final int FIREBALL_SPAWN_OFFSET_X = Math.round(60 * Game.SCALE / Game.DEFAULT_SCALE);
 	}
 
 	public static class ObjectConstants {
@@ -134,6 +143,9 @@ public class Constants {
 	}
 
 	public static class UI {
+		// Dims the frozen scene behind the pause, game over and level completed overlays
+		public static final Color OVERLAY_DIM = new Color(0, 0, 0, 200);
+
 		public static class Buttons {
 			public static final int B_WIDTH_DEFAULT = 140;
 			public static final int B_HEIGHT_DEFAULT = 56;
@@ -12,6 +12,7 @@ import entities.Skelly;
 import main.Game;
 
 import static utilz.Constants.EnemyConstants.SKELLY;
+import static utilz.Constants.GRAVITY;
 import static utilz.Constants.ObjectConstants.*;
 
 public class HelpMethods {
@@ -127,16 +128,24 @@ public class HelpMethods {
 			return currentTile * Game.TILES_SIZE;
 	}
 
-	public static float GetEntityYPosUnderRoofOrAboveFloor(Rectangle2D.Float hitbox, float airSpeed) {
-		int currentTile = (int) (hitbox.y / Game.TILES_SIZE);
-		if (airSpeed > 0) {
+	// Vertical distance covered in one tick under constant gravity. Exact for any tick length, so a jump
+	// reaches the same height whatever the update rate; a plain airSpeed * dt step would not.
+	public static float GetFallDistance(float airSpeed, float dt) {
+		return airSpeed * dt + 0.5f * GRAVITY * dt * dt;
+	}
+
+	// ySpeed is the vertical move of this tick; the tile it runs into is found from the destination,
+	// so a step larger than the gap between the hitbox and the tile edge still lands on the right tile
+	public static float GetEntityYPosUnderRoofOrAboveFloor(Rectangle2D.Float hitbox, float ySpeed) {
+		if (ySpeed > 0) {
 			// Falling - touching floor
-			int tileYPos = currentTile * Game.TILES_SIZE;
-			int yOffset = (int) (Game.TILES_SIZE - hitbox.height);
-			return tileYPos + yOffset - 1;
-		} else
+			int floorTile = (int) ((hitbox.y + hitbox.height + ySpeed) / Game.TILES_SIZE);
+			return floorTile * Game.TILES_SIZE - hitbox.height - 1;
+		} else {
 			// Jumping
-			return currentTile * Game.TILES_SIZE;
+			int roofTile = (int) ((hitbox.y + ySpeed) / Game.TILES_SIZE);
+			return (roofTile + 1) * Game.TILES_SIZE;
+		}
 
 	}
 
@@ -1,11 +1,17 @@
 package utilz;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import javax.imageio.ImageIO;
 
@@ -34,9 +40,119 @@ public class LoadSave {
 	public static final String DEATH_SCREEN = "death_screen.png";
 	public static final String OPTIONS_MENU = "options_background.png";
 
+	private static final String LEVELS_DIR = "lvls/";
 
+	public enum Group {
+		MENU, LEVEL, UI
+	}
+
+	private static final Map<String, Group> groups = new LinkedHashMap<>();
+
+	static {
+		// MENU is everything the menu and options screens need for their first frame
+		Register(Group.MENU, MENU_BUTTONS, MENU_BACKGROUND, MENU_BACKGROUND_IMG, OPTIONS_MENU, SOUND_BUTTONS,
+				URM_BUTTONS, VOLUME_BUTTONS);
+		Register(Group.UI, PAUSE_BACKGROUND, STATUS_BAR, COMPLETED_IMG, DEATH_SCREEN);
+		Register(Group.LEVEL, PLAYER_ATLAS, LEVEL_ATLAS, SMALL_CLOUD, SKELLY_SPRITE, POTION_ATLAS,
+				CONTAINER_ATLAS, TRAP_ATLAS, CANNON_ATLAS, CANNON_BALL, FIREBALL);
+	}
+
+	// Every image is decoded once and shared by all callers, so nobody may draw into what they get back.
+	private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong bytesResident = new AtomicLong();
+	// How long each asset took to load, keyed by path; images are recorded by Decode, audio clips by AudioPlayer
+	private static final Map<String, Long> loadNanos = new ConcurrentHashMap<>();
+
+	private static void Register(Group group, String... fileNames) {
+		for (String name : fileNames)
+			groups.putIfAbsent(name, group);
+	}
+
+	// Decodes the group's images on the common fork-join pool and returns once they are all cached.
+	// Levels are left to GetAllLevels so startup time does not grow with the number of levels.
+	public static void Preload(Group group) {
+		groups.entrySet().parallelStream()
+				.filter(e -> e.getValue() == group)
+				.forEach(e -> cache.computeIfAbsent(e.getKey(), LoadSave::Decode));
+	}
+
+	// Drops the group's decoded images. Anything still holding one keeps it alive until it lets go.
+	public static void Unload(Group group) {
+		cache.keySet().removeIf(name -> {
+			if (GetGroup(name) != group)
+				return false;
+			BufferedImage img = cache.get(name);
+			if (img != null)
+				bytesResident.addAndGet(-SizeOf(img));
+			return true;
+		});
+	}
+
+	private static Group GetGroup(String name) {
+		if (name.startsWith(LEVELS_DIR))
+			return Group.LEVEL;
+		return groups.getOrDefault(name, Group.UI);
+	}
 
 	public static BufferedImage GetSpriteAtlas(String fileName) {
+		BufferedImage img = cache.get(fileName);
+		if (img != null) {
+			hits.incrementAndGet();
+			return img;
+		}
+		misses.incrementAndGet();
+		return cache.computeIfAbsent(fileName, LoadSave::Decode);
+	}
+
+	private static BufferedImage Decode(String fileName) {
+		long start = System.nanoTime();
+		BufferedImage img = ReadImage(fileName);
+		if (img != null)
+			bytesResident.addAndGet(SizeOf(img));
+		RecordLoadTime(fileName, System.nanoTime() - start);
+		return img;
+	}
+
+	public static void RecordLoadTime(String path, long nanos) {
+		loadNanos.put(path, nanos);
+	}
+
+	private static long SizeOf(BufferedImage img) {
+		DataBuffer data = img.getRaster().getDataBuffer();
+		return (long) data.getSize() * data.getNumBanks() * DataBuffer.getDataTypeSize(data.getDataType()) / 8;
+	}
+
+	public static long GetHits() {
+		return hits.get();
+	}
+
+	public static long GetMisses() {
+		return misses.get();
+	}
+
+	public static long GetBytesResident() {
+		return bytesResident.get();
+	}
+
+	// Totals, then every loaded asset, slowest first
+	public static String Summary() {
+		long total = 0;
+		for (long nanos : loadNanos.values())
+			total += nanos;
+		StringBuilder sb = new StringBuilder();
+		sb.append("Assets: ").append(cache.size()).append(" images, ").append(GetBytesResident() / 1024)
+				.append(" KB resident, ").append(GetHits()).append(" hits, ").append(GetMisses())
+				.append(" misses, ").append(loadNanos.size()).append(" loaded in ").append(total / 1000000)
+				.append(" ms (summed over threads)\n");
+		loadNanos.entrySet().stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+				.forEach(e -> sb.append(String.format("  %-28s %8.1f ms%n", e.getKey(), e.getValue() / 1000000.0)));
+		return sb.toString();
+	}
+
+	private static BufferedImage ReadImage(String fileName) {
 		BufferedImage img = null;
 		InputStream is = LoadSave.class.getResourceAsStream("/" + fileName);
 		try {
@@ -54,7 +170,7 @@ public class LoadSave {
 		return img;
 	}
 
-	public static BufferedImage[] GetAllLevels(){
+	private static File[] GetLevelFiles() {
 		URL url = LoadSave.class.getResource("/lvls");
 		File file = null;
         try {
@@ -62,8 +178,11 @@ public class LoadSave {
         } catch (URISyntaxException e) {
             e.printStackTrace();
         }
+		return file.listFiles();
+	}
 
-		File[] files= file.listFiles();
+	public static BufferedImage[] GetAllLevels(){
+		File[] files= GetLevelFiles();
 		File[] filesSorted = new File[files.length];
 
 		for(int i=0;i< filesSorted.length;i++)
@@ -74,13 +193,8 @@ public class LoadSave {
 //		for(File f : files)
 //			System.out.println("file" + f.getName());
 		BufferedImage[] imgs =new BufferedImage[filesSorted.length];
-		for(int i=0; i <imgs.length; i++){
-            try {
-                imgs[i] = ImageIO.read(filesSorted[i]);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-		}
+		IntStream.range(0, imgs.length).parallel().forEach(i ->
+				imgs[i] = cache.computeIfAbsent(LEVELS_DIR + filesSorted[i].getName(), LoadSave::Decode));
 
 		return imgs;
     }
@@ -0,0 +1,71 @@
+package utilz;
+
+import java.awt.Graphics;
+import java.util.Arrays;
+
+import main.Game;
+
+// Sprite draws are submitted here during a frame and flushed together, sorted by layer, then atlas
+// page, then submission order. Commands live in reused primitive arrays, so submitting allocates
+// nothing once the buffers have grown to the busiest frame. Mirroring is a choice of region id.
+public class RenderQueue {
+
+	public static final int LAYER_ENTITIES = 1;
+	public static final int LAYER_OBJECTS = 2;
+	public static final int LAYER_PROJECTILES = 3;
+
+	// sort key: layer (8 bits) | atlas page (16 bits) | command index (40 bits)
+	private static final int LAYER_SHIFT = 56, PAGE_SHIFT = 40;
+	private static final long INDEX_MASK = (1L << PAGE_SHIFT) - 1;
+
+	private int[] ids = new int[256];
+	private int[] xs = new int[256];
+	private int[] ys = new int[256];
+	private long[] keys = new long[256];
+	private int count;
+
+	private int drawCalls, culled, culledPending;
+
+	public void submit(int id, int x, int y, int layer) {
+		if (x >= Game.GAME_WIDTH || y >= Game.GAME_HEIGHT
+				|| x + TextureAtlas.GetWidth(id) <= 0 || y + TextureAtlas.GetHeight(id) <= 0) {
+			culledPending++;
+			return;
+		}
+
+		if (count == ids.length) {
+			int size = count * 2;
+			ids = Arrays.copyOf(ids, size);
+			xs = Arrays.copyOf(xs, size);
+			ys = Arrays.copyOf(ys, size);
+			keys = Arrays.copyOf(keys, size);
+		}
+		ids[count] = id;
+		xs[count] = x;
+		ys[count] = y;
+		keys[count] = (long) layer << LAYER_SHIFT | (long) TextureAtlas.GetPage(id) << PAGE_SHIFT | count;
+		count++;
+	}
+
+	public void flush(Graphics g) {
+		Arrays.sort(keys, 0, count);
+		for (int i = 0; i < count; i++) {
+			int c = (int) (keys[i] & INDEX_MASK);
+			TextureAtlas.Draw(g, ids[c], xs[c], ys[c]);
+		}
+		drawCalls = count;
+		culled = culledPending;
+		culledPending = 0;
+		count = 0;
+	}
+
+	// Counters from the last flush
+	public int getDrawCalls() {
+		return drawCalls;
+	}
+
+	public int getCulled() {
+		return culled;
+	}
+
+}
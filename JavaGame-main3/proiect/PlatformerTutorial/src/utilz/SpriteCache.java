@@ -0,0 +1,92 @@
+package utilz;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Copies sprite frames once, at the size they are drawn on screen, into images compatible with the
+// display. Drawing them is then a plain unscaled blit instead of scaling a sub-image view of a PNG.
+public class SpriteCache {
+
+	// Sprites are cached from the game thread and the Playing loader at the same time
+	private static final AtomicInteger spritesCached = new AtomicInteger();
+	private static final AtomicLong bytesCached = new AtomicLong();
+
+	public static BufferedImage GetScaled(BufferedImage src, int width, int height) {
+		BufferedImage img = CreateCompatibleImage(width, height);
+		Graphics2D g = img.createGraphics();
+		g.drawImage(src, 0, 0, width, height, null);
+		g.dispose();
+
+		spritesCached.incrementAndGet();
+		bytesCached.addAndGet((long) width * height * 4);
+		return img;
+	}
+
+	public static BufferedImage[] GetScaled(BufferedImage[] frames, int width, int height) {
+		BufferedImage[] scaled = new BufferedImage[frames.length];
+		for (int i = 0; i < frames.length; i++)
+			scaled[i] = GetScaled(frames[i], width, height);
+		return scaled;
+	}
+
+	public static BufferedImage[][] GetScaled(BufferedImage[][] frames, int width, int height) {
+		BufferedImage[][] scaled = new BufferedImage[frames.length][];
+		for (int i = 0; i < frames.length; i++)
+			scaled[i] = GetScaled(frames[i], width, height);
+		return scaled;
+	}
+
+	// Horizontally mirrored copy, so facing left is an ordinary blit rather than a negative-width one
+	public static BufferedImage GetMirrored(BufferedImage src) {
+		int width = src.getWidth(), height = src.getHeight();
+		BufferedImage img = CreateCompatibleImage(width, height);
+		Graphics2D g = img.createGraphics();
+		g.drawImage(src, width, 0, -width, height, null);
+		g.dispose();
+
+		spritesCached.incrementAndGet();
+		bytesCached.addAndGet((long) width * height * 4);
+		return img;
+	}
+
+	public static BufferedImage[] GetMirrored(BufferedImage[] frames) {
+		BufferedImage[] mirrored = new BufferedImage[frames.length];
+		for (int i = 0; i < frames.length; i++)
+			mirrored[i] = GetMirrored(frames[i]);
+		return mirrored;
+	}
+
+	public static BufferedImage[][] GetMirrored(BufferedImage[][] frames) {
+		BufferedImage[][] mirrored = new BufferedImage[frames.length][];
+		for (int i = 0; i < frames.length; i++)
+			mirrored[i] = GetMirrored(frames[i]);
+		return mirrored;
+	}
+
+	public static BufferedImage CreateCompatibleImage(int width, int height) {
+		GraphicsConfiguration gc = GetConfiguration();
+		if (gc == null)
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+		return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+	}
+
+	private static GraphicsConfiguration GetConfiguration() {
+		if (GraphicsEnvironment.isHeadless())
+			return null;
+		return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+	}
+
+	public static int GetSpritesCached() {
+		return spritesCached.get();
+	}
+
+	public static long GetBytesCached() {
+		return bytesCached.get();
+	}
+
+}
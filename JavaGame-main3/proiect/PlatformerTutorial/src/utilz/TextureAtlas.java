@@ -0,0 +1,189 @@
+package utilz;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Packs sprite frames into a few large compatible pages so that drawing switches between far fewer
+// source images. Add returns a region id. Regions are packed by an explicit Pack, or lazily by the first
+// draw of a region that is not packed yet; drawing already packed regions never repacks, so the menu
+// can keep drawing while Playing adds its sprites on the loader thread.
+// Sprites that face both ways are added twice, once mirrored by SpriteCache.GetMirrored.
+public class TextureAtlas {
+
+	public static final int PAGE_SIZE = 2048;
+	private static final int PADDING = 1;
+
+	// region table, 5 ints per region: page, x, y, width, height
+	private static final int PAGE = 0, X = 1, Y = 2, W = 3, H = 4, STRIDE = 5;
+
+	// Sprites added since the last Pack; packed ones are set to null so they are only held by their page
+	private static final List<BufferedImage> sources = new ArrayList<>();
+	private static boolean dirty;
+	private static long pendingBytes;
+
+	// Pages and the region table that indexes them, swapped in together by Pack
+	private static class Layout {
+		final BufferedImage[] pages;
+		final int[] regions;
+
+		Layout(BufferedImage[] pages, int[] regions) {
+			this.pages = pages;
+			this.regions = regions;
+		}
+	}
+
+	private static volatile Layout layout = new Layout(new BufferedImage[0], new int[0]);
+	private static volatile long bytesResident;
+
+	public static synchronized int Add(BufferedImage img) {
+		sources.add(img);
+		pendingBytes += (long) img.getWidth() * img.getHeight() * 4;
+		dirty = true;
+		return sources.size() - 1;
+	}
+
+	public static int[] Add(BufferedImage[] frames) {
+		int[] ids = new int[frames.length];
+		for (int i = 0; i < frames.length; i++)
+			ids[i] = Add(frames[i]);
+		return ids;
+	}
+
+	public static int[][] Add(BufferedImage[][] frames) {
+		int[][] ids = new int[frames.length][];
+		for (int i = 0; i < frames.length; i++)
+			ids[i] = Add(frames[i]);
+		return ids;
+	}
+
+	public static void Draw(Graphics g, int id, int x, int y) {
+		Layout l = GetLayout(id);
+		int r = id * STRIDE;
+		int sx = l.regions[r + X], sy = l.regions[r + Y], w = l.regions[r + W], h = l.regions[r + H];
+		g.drawImage(l.pages[l.regions[r + PAGE]], x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+	}
+
+	public static int GetPage(int id) {
+		return GetLayout(id).regions[id * STRIDE + PAGE];
+	}
+
+	public static int GetWidth(int id) {
+		return GetLayout(id).regions[id * STRIDE + W];
+	}
+
+	public static int GetHeight(int id) {
+		return GetLayout(id).regions[id * STRIDE + H];
+	}
+
+	// A layout that has the region, packing only when it is not in the current one
+	private static Layout GetLayout(int id) {
+		Layout l = layout;
+		if (id * STRIDE < l.regions.length)
+			return l;
+		Pack();
+		return layout;
+	}
+
+	// Shelf packing: tallest regions first, left to right, a new shelf when the row is full and a new
+	// page when the shelves run past PAGE_SIZE. Regions packed before are copied over from the old pages.
+	public static synchronized void Pack() {
+		if (!dirty)
+			return;
+		Layout old = layout;
+		int count = sources.size();
+		Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++)
+			order[i] = i;
+		Arrays.sort(order, (a, b) -> GetSourceHeight(old, b) - GetSourceHeight(old, a));
+
+		int[] packed = new int[count * STRIDE];
+		List<Integer> pageHeights = new ArrayList<>();
+		int page = 0, x = 0, y = 0, shelfHeight = 0;
+		for (int id : order) {
+			int w = GetSourceWidth(old, id), h = GetSourceHeight(old, id);
+			if (x + w > PAGE_SIZE) {
+				x = 0;
+				y += shelfHeight + PADDING;
+				shelfHeight = 0;
+			}
+			if (y + h > PAGE_SIZE) {
+				pageHeights.add(y);
+				page++;
+				x = 0;
+				y = 0;
+			}
+			int r = id * STRIDE;
+			packed[r + PAGE] = page;
+			packed[r + X] = x;
+			packed[r + Y] = y;
+			packed[r + W] = w;
+			packed[r + H] = h;
+			x += w + PADDING;
+			shelfHeight = Math.max(shelfHeight, h);
+		}
+		pageHeights.add(y + shelfHeight);
+
+		BufferedImage[] newPages = new BufferedImage[pageHeights.size()];
+		Graphics2D[] gs = new Graphics2D[newPages.length];
+		long bytes = 0;
+		for (int i = 0; i < newPages.length; i++) {
+			newPages[i] = SpriteCache.CreateCompatibleImage(PAGE_SIZE, Math.max(1, pageHeights.get(i)));
+			gs[i] = newPages[i].createGraphics();
+			bytes += (long) PAGE_SIZE * newPages[i].getHeight() * 4;
+		}
+		for (int id = 0; id < count; id++) {
+			int r = id * STRIDE;
+			int x0 = packed[r + X], y0 = packed[r + Y];
+			BufferedImage img = sources.get(id);
+			if (img != null) {
+				gs[packed[r + PAGE]].drawImage(img, x0, y0, null);
+			} else {
+				int sx = old.regions[r + X], sy = old.regions[r + Y], w = packed[r + W], h = packed[r + H];
+				gs[packed[r + PAGE]].drawImage(old.pages[old.regions[r + PAGE]], x0, y0, x0 + w, y0 + h,
+						sx, sy, sx + w, sy + h, null);
+			}
+		}
+		for (Graphics2D g : gs)
+			g.dispose();
+
+		layout = new Layout(newPages, packed);
+		Collections.fill(sources, null);
+		pendingBytes = 0;
+		bytesResident = bytes;
+		dirty = false;
+	}
+
+	private static int GetSourceWidth(Layout old, int id) {
+		BufferedImage img = sources.get(id);
+		return img != null ? img.getWidth() : old.regions[id * STRIDE + W];
+	}
+
+	private static int GetSourceHeight(Layout old, int id) {
+		BufferedImage img = sources.get(id);
+		return img != null ? img.getHeight() : old.regions[id * STRIDE + H];
+	}
+
+	public static synchronized int GetRegionCount() {
+		return sources.size();
+	}
+
+	public static int GetPageCount() {
+		return layout.pages.length;
+	}
+
+	// The pages plus any sprites still waiting to be packed
+	public static synchronized long GetBytesResident() {
+		return bytesResident + pendingBytes;
+	}
+
+	public static String Summary() {
+		return "Atlas: " + GetRegionCount() + " sprites on " + GetPageCount() + " page(s), "
+				+ GetBytesResident() / 1024 + " KB\n";
+	}
+
+}
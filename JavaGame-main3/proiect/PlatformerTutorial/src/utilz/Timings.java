@@ -0,0 +1,82 @@
+package utilz;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+// Rolling nanosecond timings for each phase of a tick and a frame.
+// Phases are recorded from the game thread only, so nothing here is synchronized.
+public class Timings {
+
+	public enum Phase {
+		TICK, UPDATE_OBJECTS, UPDATE_PLAYER, UPDATE_ENEMIES, UPDATE_SPELLS,
+		FRAME, DRAW_BACKGROUND, DRAW_LEVEL, DRAW_ENTITIES, DRAW_OBJECTS, DRAW_FLUSH, DRAW_OVERLAYS
+	}
+
+	private static final int WINDOW = 1000;
+	private static final long[][] samples = new long[Phase.values().length][WINDOW];
+	private static final int[] sampleCount = new int[Phase.values().length];
+	private static final int[] nextSample = new int[Phase.values().length];
+
+	public static void Record(Phase phase, long startNanos) {
+		Add(phase, System.nanoTime() - startNanos);
+	}
+
+	public static void Add(Phase phase, long nanos) {
+		int p = phase.ordinal();
+		samples[p][nextSample[p]] = nanos;
+		nextSample[p] = (nextSample[p] + 1) % WINDOW;
+		if (sampleCount[p] < WINDOW)
+			sampleCount[p]++;
+	}
+
+	public static long GetMin(Phase phase) {
+		int p = phase.ordinal();
+		if (sampleCount[p] == 0)
+			return 0;
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < sampleCount[p]; i++)
+			min = Math.min(min, samples[p][i]);
+		return min;
+	}
+
+	public static long GetAvg(Phase phase) {
+		int p = phase.ordinal();
+		if (sampleCount[p] == 0)
+			return 0;
+		long total = 0;
+		for (int i = 0; i < sampleCount[p]; i++)
+			total += samples[p][i];
+		return total / sampleCount[p];
+	}
+
+	public static long GetP99(Phase phase) {
+		int p = phase.ordinal();
+		if (sampleCount[p] == 0)
+			return 0;
+		long[] sorted = Arrays.copyOf(samples[p], sampleCount[p]);
+		Arrays.sort(sorted);
+		return sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+	}
+
+	public static void Reset() {
+		Arrays.fill(sampleCount, 0);
+		Arrays.fill(nextSample, 0);
+	}
+
+	public static String Summary() {
+		StringBuilder sb = new StringBuilder(String.format("%-16s %10s %10s %10s%n", "phase (us)", "min", "avg", "p99"));
+		for (Phase phase : Phase.values())
+			sb.append(String.format("%-16s %10.1f %10.1f %10.1f%n", phase, GetMin(phase) / 1000.0, GetAvg(phase) / 1000.0, GetP99(phase) / 1000.0));
+		return sb.toString();
+	}
+
+	public static void DumpToFile(String fileName) {
+		try (PrintWriter out = new PrintWriter(fileName)) {
+			out.print(Summary());
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+}